@@ -1,11 +1,17 @@
 package org.thejavaguy.javafaker;
 
 import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import org.apache.commons.lang3.StringUtils;
+import org.thejavaguy.javafaker.service.FakeValuesService;
 
 public class Commerce {
+  private static final String DEPARTMENT = "commerce.department";
+
   private final Faker faker;
 
   protected Commerce(Faker faker) {
@@ -17,10 +23,25 @@ public class Commerce {
   }
 
   public String department() {
+    final FakeValuesService fakeValuesService = faker.fakeValuesService();
     int numberOfDepartments = Math.max(faker.random().nextInt(4), 1);
     SortedSet<String> departments = new TreeSet<>();
-    while (departments.size() < numberOfDepartments) {
-      departments.add(faker.fakeValuesService().resolve("commerce.department", this, faker));
+    final Object allDepartments = fakeValuesService.fetchObject(DEPARTMENT);
+    if (allDepartments instanceof List && !((List<?>) allDepartments).isEmpty()) {
+      // a locale may list a department twice, so pick among the distinct ones
+      final List<Object> distinct = new ArrayList<>(new LinkedHashSet<>((List<?>) allDepartments));
+      numberOfDepartments = Math.min(numberOfDepartments, distinct.size());
+      if (fakeValuesService.isWeightedList(DEPARTMENT)) {
+        while (departments.size() < numberOfDepartments) {
+          departments.add(fakeValuesService.resolve(DEPARTMENT, this, faker));
+        }
+      } else {
+        for (Object department : faker.options().sample(distinct, numberOfDepartments)) {
+          departments.add(fakeValuesService.expression(String.valueOf(department), this, faker));
+        }
+      }
+    } else {
+      departments.add(fakeValuesService.resolve(DEPARTMENT, this, faker));
     }
     if (departments.size() > 1) {
       String lastDepartment = departments.last();
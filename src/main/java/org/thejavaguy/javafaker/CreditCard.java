@@ -50,7 +50,7 @@ public class CreditCard {
    * @return a plain credit card number string
    */
   public String numberPlain() {
-    return number().replaceAll("[\\s-]", "");
+    return numberPlain(randomType());
   }
 
   /**
@@ -60,7 +60,7 @@ public class CreditCard {
    * @return a plain credit card number string
    */
   public String numberPlain(CreditCardType type) {
-    return number(type).replaceAll("[\\s-]", "");
+    return faker.finance().creditCard(type, false);
   }
 
   /**
@@ -1,10 +1,25 @@
 package org.thejavaguy.javafaker;
 
-import java.math.BigInteger;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Hex encoded digests of random bytes. Each thread keeps its own instance of every digest, as
+ * {@link MessageDigest}s aren't thread safe and looking one up is much slower than reusing it.
+ */
 public class Crypto {
+  /** How many random bytes are hashed, enough for every digest to be unpredictable. */
+  private static final int INPUT_LENGTH = 64;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private static final ThreadLocal<MessageDigest> MD5 = digest("MD5");
+  private static final ThreadLocal<MessageDigest> SHA1 = digest("SHA-1");
+  private static final ThreadLocal<MessageDigest> SHA256 = digest("SHA-256");
+  private static final ThreadLocal<MessageDigest> SHA512 = digest("SHA-512");
+
   private final Faker faker;
 
   protected Crypto(Faker faker) {
@@ -12,29 +27,60 @@ public class Crypto {
   }
 
   public String md5() {
-    return generateString("MD5");
+    return generateString(MD5.get());
   }
 
   public String sha1() {
-    return generateString("SHA-1");
+    return generateString(SHA1.get());
   }
 
   public String sha256() {
-    return generateString("SHA-256");
+    return generateString(SHA256.get());
   }
 
   public String sha512() {
-    return generateString("SHA-512");
+    return generateString(SHA512.get());
+  }
+
+  /**
+   * Generates n SHA-256 digests, such as the keys of a content addressable store. The input and
+   * hex buffers are shared by all of them, so each digest only allocates its string.
+   */
+  public List<String> sha256Batch(int n) {
+    final MessageDigest messageDigest = SHA256.get();
+    final byte[] input = new byte[INPUT_LENGTH];
+    final char[] hex = new char[messageDigest.getDigestLength() * 2];
+    final List<String> digests = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      digests.add(generateString(messageDigest, input, hex));
+    }
+    return digests;
+  }
+
+  private String generateString(MessageDigest messageDigest) {
+    return generateString(
+        messageDigest, new byte[INPUT_LENGTH], new char[messageDigest.getDigestLength() * 2]);
   }
 
-  private String generateString(String algorithm) {
-    try {
-      MessageDigest messageDigest = MessageDigest.getInstance(algorithm);
-      String characters = faker.lorem().characters();
-      messageDigest.update(characters.getBytes(), 0, characters.length());
-      return new BigInteger(1, messageDigest.digest()).toString(16);
-    } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
-      throw new RuntimeException(noSuchAlgorithmException);
+  /** Hashes random bytes and hex encodes the digest, leading zeros included. */
+  private String generateString(MessageDigest messageDigest, byte[] input, char[] hex) {
+    faker.random().nextBytes(input);
+    final byte[] digest = messageDigest.digest(input);
+    for (int i = 0; i < digest.length; i++) {
+      hex[2 * i] = HEX_DIGITS[(digest[i] >>> 4) & 0xf];
+      hex[2 * i + 1] = HEX_DIGITS[digest[i] & 0xf];
     }
+    return new String(hex);
+  }
+
+  private static ThreadLocal<MessageDigest> digest(String algorithm) {
+    return ThreadLocal.withInitial(
+        () -> {
+          try {
+            return MessageDigest.getInstance(algorithm);
+          } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+            throw new RuntimeException(noSuchAlgorithmException);
+          }
+        });
   }
 }
@@ -2,6 +2,8 @@ package org.thejavaguy.javafaker;
 
 import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.thejavaguy.javafaker.service.FakeValuesService;
 import org.thejavaguy.javafaker.service.RandomService;
 
@@ -15,102 +17,103 @@ public class Faker {
   private final RandomService randomService;
   private final FakeValuesService fakeValuesService;
 
-  private final Ancient ancient;
-  private final App app;
-  private final Artist artist;
-  private final Avatar avatar;
-  private final Aviation aviation;
-  private final Lorem lorem;
-  private final Music music;
-  private final Name name;
-  private final Number number;
-  private final Internet internet;
-  private final PhoneNumber phoneNumber;
-  private final Pokemon pokemon;
-  private final Address address;
-  private final Business business;
-  private final Book book;
-  private final ChuckNorris chuckNorris;
-  private final Color color;
-  private final Commerce commerce;
-  private final Country country;
-  private final Currency currency;
-  private final Company company;
-  private final Crypto crypto;
-  private final IdNumber idNumber;
-  private final Hacker hacker;
-  private final Options options;
-  private final Code code;
-  private final Coin coin;
-  private final Finance finance;
-  private final CreditCard creditCard;
-  private final Food food;
-  private final GameOfThrones gameOfThrones;
-  private final Gender gender;
-  private final DateAndTime dateAndTime;
-  private final Demographic demographic;
-  private final Dog dog;
-  private final Educator educator;
-  private final ElderScrolls elderScrolls;
-  private final Shakespeare shakespeare;
-  private final SlackEmoji slackEmoji;
-  private final Space space;
-  private final Superhero superhero;
-  private final Bool bool;
-  private final Team team;
-  private final Beer beer;
-  private final University university;
-  private final Cat cat;
-  private final File file;
-  private final Stock stock;
-  private final LordOfTheRings lordOfTheRings;
-  private final Zelda zelda;
-  private final HarryPotter harryPotter;
-  private final RockBand rockBand;
-  private final Esports esports;
-  private final Friends friends;
-  private final Hipster hipster;
-  private final Job job;
-  private final TwinPeaks twinPeaks;
-  private final RickAndMorty rickAndMorty;
-  private final Yoda yoda;
-  private final Matz matz;
-  private final Witcher witcher;
-  private final DragonBall dragonBall;
-  private final FunnyName funnyName;
-  private final HitchhikersGuideToTheGalaxy hitchhikersGuideToTheGalaxy;
-  private final Hobbit hobbit;
-  private final HowIMetYourMother howIMetYourMother;
-  private final LeagueOfLegends leagueOfLegends;
-  private final Overwatch overwatch;
-  private final Robin robin;
-  private final StarTrek starTrek;
-  private final Weather weather;
-  private final Lebowski lebowski;
-  private final Medical medical;
-  private final Animal animal;
-  private final BackToTheFuture backToTheFuture;
-  private final PrincessBride princessBride;
-  private final Buffy buffy;
-  private final Relationships relationships;
-  private final Nation nation;
-  private final Dune dune;
-  private final AquaTeenHungerForce aquaTeenHungerForce;
-  private final ProgrammingLanguage programmingLanguage;
-  private final Kaamelott kaamelott;
-  private final Photography photography;
-  private final StarCraft starCraft;
-  private final BojackHorseman bojackHorseman;
-  private final Disease disease;
-  private final Basketball basketball;
-  private final Barcode barcode;
-  private final Sip sip;
-  private final EnglandFootBall englandfootball;
-  private final Mountain mountain;
-  private final Shipping shipping;
-  private final Subscription subscription;
-  private final Temporal temporal;
-  private final Vehicle vehicle;
+  private final LazyProvider<Ancient> ancient;
+  private final LazyProvider<App> app;
+  private final LazyProvider<Artist> artist;
+  private final LazyProvider<Avatar> avatar;
+  private final LazyProvider<Aviation> aviation;
+  private final LazyProvider<Lorem> lorem;
+  private final LazyProvider<Music> music;
+  private final LazyProvider<Name> name;
+  private final LazyProvider<Number> number;
+  private final LazyProvider<Internet> internet;
+  private final LazyProvider<PhoneNumber> phoneNumber;
+  private final LazyProvider<Pokemon> pokemon;
+  private final LazyProvider<Address> address;
+  private final LazyProvider<Business> business;
+  private final LazyProvider<Book> book;
+  private final LazyProvider<ChuckNorris> chuckNorris;
+  private final LazyProvider<Color> color;
+  private final LazyProvider<Commerce> commerce;
+  private final LazyProvider<Country> country;
+  private final LazyProvider<Currency> currency;
+  private final LazyProvider<Company> company;
+  private final LazyProvider<Crypto> crypto;
+  private final LazyProvider<IdNumber> idNumber;
+  private final LazyProvider<Hacker> hacker;
+  private final LazyProvider<Options> options;
+  private final LazyProvider<Code> code;
+  private final LazyProvider<Coin> coin;
+  private final LazyProvider<Finance> finance;
+  private final LazyProvider<CreditCard> creditCard;
+  private final LazyProvider<Food> food;
+  private final LazyProvider<GameOfThrones> gameOfThrones;
+  private final LazyProvider<Gender> gender;
+  private final LazyProvider<DateAndTime> dateAndTime;
+  private final LazyProvider<Demographic> demographic;
+  private final LazyProvider<Dog> dog;
+  private final LazyProvider<Educator> educator;
+  private final LazyProvider<ElderScrolls> elderScrolls;
+  private final LazyProvider<Shakespeare> shakespeare;
+  private final LazyProvider<SlackEmoji> slackEmoji;
+  private final LazyProvider<Space> space;
+  private final LazyProvider<Superhero> superhero;
+  private final LazyProvider<Bool> bool;
+  private final LazyProvider<Team> team;
+  private final LazyProvider<Beer> beer;
+  private final LazyProvider<University> university;
+  private final LazyProvider<Cat> cat;
+  private final LazyProvider<File> file;
+  private final LazyProvider<Stock> stock;
+  private final LazyProvider<LordOfTheRings> lordOfTheRings;
+  private final LazyProvider<Zelda> zelda;
+  private final LazyProvider<HarryPotter> harryPotter;
+  private final LazyProvider<RockBand> rockBand;
+  private final LazyProvider<Esports> esports;
+  private final LazyProvider<Friends> friends;
+  private final LazyProvider<Hipster> hipster;
+  private final LazyProvider<Job> job;
+  private final LazyProvider<TwinPeaks> twinPeaks;
+  private final LazyProvider<RickAndMorty> rickAndMorty;
+  private final LazyProvider<Yoda> yoda;
+  private final LazyProvider<Matz> matz;
+  private final LazyProvider<Witcher> witcher;
+  private final LazyProvider<DragonBall> dragonBall;
+  private final LazyProvider<FunnyName> funnyName;
+  private final LazyProvider<HitchhikersGuideToTheGalaxy> hitchhikersGuideToTheGalaxy;
+  private final LazyProvider<Hobbit> hobbit;
+  private final LazyProvider<HowIMetYourMother> howIMetYourMother;
+  private final LazyProvider<LeagueOfLegends> leagueOfLegends;
+  private final LazyProvider<Overwatch> overwatch;
+  private final LazyProvider<Robin> robin;
+  private final LazyProvider<StarTrek> starTrek;
+  private final LazyProvider<Weather> weather;
+  private final LazyProvider<Lebowski> lebowski;
+  private final LazyProvider<Medical> medical;
+  private final LazyProvider<Animal> animal;
+  private final LazyProvider<BackToTheFuture> backToTheFuture;
+  private final LazyProvider<PrincessBride> princessBride;
+  private final LazyProvider<Buffy> buffy;
+  private final LazyProvider<Relationships> relationships;
+  private final LazyProvider<Nation> nation;
+  private final LazyProvider<Dune> dune;
+  private final LazyProvider<AquaTeenHungerForce> aquaTeenHungerForce;
+  private final LazyProvider<ProgrammingLanguage> programmingLanguage;
+  private final LazyProvider<Kaamelott> kaamelott;
+  private final LazyProvider<Photography> photography;
+  private final LazyProvider<StarCraft> starCraft;
+  private final LazyProvider<BojackHorseman> bojackHorseman;
+  private final LazyProvider<Disease> disease;
+  private final LazyProvider<Basketball> basketball;
+  private final LazyProvider<Barcode> barcode;
+  private final LazyProvider<Sip> sip;
+  private final LazyProvider<EnglandFootBall> englandfootball;
+  private final LazyProvider<Mountain> mountain;
+  private final LazyProvider<Shipping> shipping;
+  private final LazyProvider<Subscription> subscription;
+  private final LazyProvider<Temporal> temporal;
+  private final LazyProvider<Vehicle> vehicle;
+  private final ConcurrentMap<String, Unique> uniques = new ConcurrentHashMap<>();
 
   public Faker() {
     this(Locale.ENGLISH);
@@ -136,102 +139,104 @@ public class Faker {
     this.randomService = random;
     this.fakeValuesService = fakeValuesService;
 
-    this.ancient = new Ancient(this);
-    this.app = new App(this);
-    this.artist = new Artist(this);
-    this.avatar = new Avatar(this);
-    this.aviation = new Aviation(this);
-    this.lorem = new Lorem(this);
-    this.music = new Music(this);
-    this.name = new Name(this);
-    this.number = new Number(this);
-    this.internet = new Internet(this);
-    this.phoneNumber = new PhoneNumber(this);
-    this.pokemon = new Pokemon(this);
-    this.address = new Address(this);
-    this.book = new Book(this);
-    this.business = new Business(this);
-    this.chuckNorris = new ChuckNorris(this);
-    this.color = new Color(this);
-    this.idNumber = new IdNumber(this);
-    this.hacker = new Hacker(this);
-    this.company = new Company(this);
-    this.crypto = new Crypto(this);
-    this.elderScrolls = new ElderScrolls(this);
-    this.commerce = new Commerce(this);
-    this.currency = new Currency(this);
-    this.options = new Options(this);
-    this.code = new Code(this);
-    this.file = new File(this);
-    this.finance = new Finance(this);
-    this.creditCard = new CreditCard(this);
-    this.food = new Food(this);
-    this.gameOfThrones = new GameOfThrones(this);
-    this.gender = new Gender(this);
-    this.dateAndTime = new DateAndTime(this);
-    this.demographic = new Demographic(this);
-    this.dog = new Dog(this);
-    this.educator = new Educator(this);
-    this.shakespeare = new Shakespeare(this);
-    this.slackEmoji = new SlackEmoji(this);
-    this.space = new Space(this);
-    this.coin = new Coin(this);
-    this.superhero = new Superhero(this);
-    this.team = new Team(this);
-    this.bool = new Bool(this);
-    this.beer = new Beer(this);
-    this.university = new University(this);
-    this.cat = new Cat(this);
-    this.stock = new Stock(this);
-    this.lordOfTheRings = new LordOfTheRings(this);
-    this.zelda = new Zelda(this);
-    this.harryPotter = new HarryPotter(this);
-    this.rockBand = new RockBand(this);
-    this.esports = new Esports(this);
-    this.friends = new Friends(this);
-    this.hipster = new Hipster(this);
-    this.job = new Job(this);
-    this.twinPeaks = new TwinPeaks(this);
-    this.rickAndMorty = new RickAndMorty(this);
-    this.yoda = new Yoda(this);
-    this.matz = new Matz(this);
-    this.witcher = new Witcher(this);
-    this.dragonBall = new DragonBall(this);
-    this.funnyName = new FunnyName(this);
-    this.hitchhikersGuideToTheGalaxy = new HitchhikersGuideToTheGalaxy(this);
-    this.hobbit = new Hobbit(this);
-    this.howIMetYourMother = new HowIMetYourMother(this);
-    this.leagueOfLegends = new LeagueOfLegends(this);
-    this.overwatch = new Overwatch(this);
-    this.robin = new Robin(this);
-    this.starTrek = new StarTrek(this);
-    this.weather = new Weather(this);
-    this.lebowski = new Lebowski(this);
-    this.medical = new Medical(this);
-    this.country = new Country(this);
-    this.animal = new Animal(this);
-    this.backToTheFuture = new BackToTheFuture(this);
-    this.princessBride = new PrincessBride(this);
-    this.buffy = new Buffy(this);
-    this.relationships = new Relationships(this);
-    this.nation = new Nation(this);
-    this.dune = new Dune(this);
-    this.aquaTeenHungerForce = new AquaTeenHungerForce(this);
-    this.programmingLanguage = new ProgrammingLanguage(this);
-    this.kaamelott = new Kaamelott(this);
-    this.photography = new Photography(this);
-    this.starCraft = new StarCraft(this);
-    this.bojackHorseman = new BojackHorseman(this);
-    this.disease = new Disease(this);
-    this.basketball = new Basketball(this);
-    this.barcode = new Barcode(this);
-    this.sip = new Sip(this);
-    this.englandfootball = new EnglandFootBall(this);
-    this.mountain = new Mountain(this);
-    this.shipping = new Shipping(this);
-    this.subscription = new Subscription(this);
-    this.temporal = new Temporal(this);
-    this.vehicle = new Vehicle(this);
+    // providers are only created when they're first used
+    this.ancient = new LazyProvider<>(() -> new Ancient(this));
+    this.app = new LazyProvider<>(() -> new App(this));
+    this.artist = new LazyProvider<>(() -> new Artist(this));
+    this.avatar = new LazyProvider<>(() -> new Avatar(this));
+    this.aviation = new LazyProvider<>(() -> new Aviation(this));
+    this.lorem = new LazyProvider<>(() -> new Lorem(this));
+    this.music = new LazyProvider<>(() -> new Music(this));
+    this.name = new LazyProvider<>(() -> new Name(this));
+    this.number = new LazyProvider<>(() -> new Number(this));
+    this.internet = new LazyProvider<>(() -> new Internet(this));
+    this.phoneNumber = new LazyProvider<>(() -> new PhoneNumber(this));
+    this.pokemon = new LazyProvider<>(() -> new Pokemon(this));
+    this.address = new LazyProvider<>(() -> new Address(this));
+    this.book = new LazyProvider<>(() -> new Book(this));
+    this.business = new LazyProvider<>(() -> new Business(this));
+    this.chuckNorris = new LazyProvider<>(() -> new ChuckNorris(this));
+    this.color = new LazyProvider<>(() -> new Color(this));
+    this.idNumber = new LazyProvider<>(() -> new IdNumber(this));
+    this.hacker = new LazyProvider<>(() -> new Hacker(this));
+    this.company = new LazyProvider<>(() -> new Company(this));
+    this.crypto = new LazyProvider<>(() -> new Crypto(this));
+    this.elderScrolls = new LazyProvider<>(() -> new ElderScrolls(this));
+    this.commerce = new LazyProvider<>(() -> new Commerce(this));
+    this.currency = new LazyProvider<>(() -> new Currency(this));
+    this.options = new LazyProvider<>(() -> new Options(this));
+    this.code = new LazyProvider<>(() -> new Code(this));
+    this.file = new LazyProvider<>(() -> new File(this));
+    this.finance = new LazyProvider<>(() -> new Finance(this));
+    this.creditCard = new LazyProvider<>(() -> new CreditCard(this));
+    this.food = new LazyProvider<>(() -> new Food(this));
+    this.gameOfThrones = new LazyProvider<>(() -> new GameOfThrones(this));
+    this.gender = new LazyProvider<>(() -> new Gender(this));
+    this.dateAndTime = new LazyProvider<>(() -> new DateAndTime(this));
+    this.demographic = new LazyProvider<>(() -> new Demographic(this));
+    this.dog = new LazyProvider<>(() -> new Dog(this));
+    this.educator = new LazyProvider<>(() -> new Educator(this));
+    this.shakespeare = new LazyProvider<>(() -> new Shakespeare(this));
+    this.slackEmoji = new LazyProvider<>(() -> new SlackEmoji(this));
+    this.space = new LazyProvider<>(() -> new Space(this));
+    this.coin = new LazyProvider<>(() -> new Coin(this));
+    this.superhero = new LazyProvider<>(() -> new Superhero(this));
+    this.team = new LazyProvider<>(() -> new Team(this));
+    this.bool = new LazyProvider<>(() -> new Bool(this));
+    this.beer = new LazyProvider<>(() -> new Beer(this));
+    this.university = new LazyProvider<>(() -> new University(this));
+    this.cat = new LazyProvider<>(() -> new Cat(this));
+    this.stock = new LazyProvider<>(() -> new Stock(this));
+    this.lordOfTheRings = new LazyProvider<>(() -> new LordOfTheRings(this));
+    this.zelda = new LazyProvider<>(() -> new Zelda(this));
+    this.harryPotter = new LazyProvider<>(() -> new HarryPotter(this));
+    this.rockBand = new LazyProvider<>(() -> new RockBand(this));
+    this.esports = new LazyProvider<>(() -> new Esports(this));
+    this.friends = new LazyProvider<>(() -> new Friends(this));
+    this.hipster = new LazyProvider<>(() -> new Hipster(this));
+    this.job = new LazyProvider<>(() -> new Job(this));
+    this.twinPeaks = new LazyProvider<>(() -> new TwinPeaks(this));
+    this.rickAndMorty = new LazyProvider<>(() -> new RickAndMorty(this));
+    this.yoda = new LazyProvider<>(() -> new Yoda(this));
+    this.matz = new LazyProvider<>(() -> new Matz(this));
+    this.witcher = new LazyProvider<>(() -> new Witcher(this));
+    this.dragonBall = new LazyProvider<>(() -> new DragonBall(this));
+    this.funnyName = new LazyProvider<>(() -> new FunnyName(this));
+    this.hitchhikersGuideToTheGalaxy =
+        new LazyProvider<>(() -> new HitchhikersGuideToTheGalaxy(this));
+    this.hobbit = new LazyProvider<>(() -> new Hobbit(this));
+    this.howIMetYourMother = new LazyProvider<>(() -> new HowIMetYourMother(this));
+    this.leagueOfLegends = new LazyProvider<>(() -> new LeagueOfLegends(this));
+    this.overwatch = new LazyProvider<>(() -> new Overwatch(this));
+    this.robin = new LazyProvider<>(() -> new Robin(this));
+    this.starTrek = new LazyProvider<>(() -> new StarTrek(this));
+    this.weather = new LazyProvider<>(() -> new Weather(this));
+    this.lebowski = new LazyProvider<>(() -> new Lebowski(this));
+    this.medical = new LazyProvider<>(() -> new Medical(this));
+    this.country = new LazyProvider<>(() -> new Country(this));
+    this.animal = new LazyProvider<>(() -> new Animal(this));
+    this.backToTheFuture = new LazyProvider<>(() -> new BackToTheFuture(this));
+    this.princessBride = new LazyProvider<>(() -> new PrincessBride(this));
+    this.buffy = new LazyProvider<>(() -> new Buffy(this));
+    this.relationships = new LazyProvider<>(() -> new Relationships(this));
+    this.nation = new LazyProvider<>(() -> new Nation(this));
+    this.dune = new LazyProvider<>(() -> new Dune(this));
+    this.aquaTeenHungerForce = new LazyProvider<>(() -> new AquaTeenHungerForce(this));
+    this.programmingLanguage = new LazyProvider<>(() -> new ProgrammingLanguage(this));
+    this.kaamelott = new LazyProvider<>(() -> new Kaamelott(this));
+    this.photography = new LazyProvider<>(() -> new Photography(this));
+    this.starCraft = new LazyProvider<>(() -> new StarCraft(this));
+    this.bojackHorseman = new LazyProvider<>(() -> new BojackHorseman(this));
+    this.disease = new LazyProvider<>(() -> new Disease(this));
+    this.basketball = new LazyProvider<>(() -> new Basketball(this));
+    this.barcode = new LazyProvider<>(() -> new Barcode(this));
+    this.sip = new LazyProvider<>(() -> new Sip(this));
+    this.englandfootball = new LazyProvider<>(() -> new EnglandFootBall(this));
+    this.mountain = new LazyProvider<>(() -> new Mountain(this));
+    this.shipping = new LazyProvider<>(() -> new Shipping(this));
+    this.subscription = new LazyProvider<>(() -> new Subscription(this));
+    this.temporal = new LazyProvider<>(() -> new Temporal(this));
+    this.vehicle = new LazyProvider<>(() -> new Vehicle(this));
   }
 
   /**
@@ -287,6 +292,18 @@ public class Faker {
     return fakeValuesService.numerify(numberString);
   }
 
+  /**
+   * Like {@link #numerify(String)}, but appends the result to out, such as a {@link StringBuilder}
+   * or a {@link java.nio.CharBuffer}.
+   *
+   * @param numberString
+   * @param out
+   * @return out
+   */
+  public <A extends Appendable> A numerify(String numberString, A out) {
+    return fakeValuesService.numerify(numberString, out);
+  }
+
   /**
    * Returns a string with the '?' characters in the parameter replaced with random alphabetic
    * characters.
@@ -314,6 +331,18 @@ public class Faker {
     return fakeValuesService.letterify(letterString, isUpper);
   }
 
+  /**
+   * Like {@link #letterify(String, boolean)}, but appends the result to out.
+   *
+   * @param letterString
+   * @param isUpper
+   * @param out
+   * @return out
+   */
+  public <A extends Appendable> A letterify(String letterString, boolean isUpper, A out) {
+    return fakeValuesService.letterify(letterString, isUpper, out);
+  }
+
   /**
    * Applies both a {@link #numerify(String)} and a {@link #letterify(String)} over the incoming
    * string.
@@ -337,6 +366,18 @@ public class Faker {
     return fakeValuesService.bothify(string, isUpper);
   }
 
+  /**
+   * Like {@link #bothify(String, boolean)}, but appends the result to out.
+   *
+   * @param string
+   * @param isUpper
+   * @param out
+   * @return out
+   */
+  public <A extends Appendable> A bothify(String string, boolean isUpper, A out) {
+    return fakeValuesService.bothify(string, isUpper, out);
+  }
+
   /** Generates a String that matches the given regular expression. */
   public String regexify(String regex) {
     return fakeValuesService.regexify(regex);
@@ -346,8 +387,58 @@ public class Faker {
     return this.randomService;
   }
 
+  /**
+   * Returns a Faker of the same locale on a random generator split off this one's, so that every
+   * worker of a parallel job can have its own.
+   *
+   * @see RandomService#split()
+   */
+  public Faker split() {
+    return withRandomService(randomService.split());
+  }
+
+  /**
+   * Returns a Faker of the same locale on the random stream with the given index. For a seeded
+   * Faker the values of the stream only depend on the seed and the index.
+   *
+   * @throws IllegalStateException if the random service of this Faker has no seed to fork from,
+   *     as when it was created with a {@link Random}
+   * @see RandomService#fork(long)
+   */
+  public Faker fork(long streamIndex) {
+    return withRandomService(randomService.fork(streamIndex));
+  }
+
+  /**
+   * Returns the Faker to generate the record with the given index from. With a seeded Faker, such
+   * as {@code new Faker(locale, RandomService.ofSeed(seed))}, record N is always the same whichever
+   * worker generates it and whatever else it generates, so a data set can be generated in slices.
+   */
+  public Faker forRecord(long index) {
+    return fork(index);
+  }
+
+  private Faker withRandomService(RandomService random) {
+    return new Faker(fakeValuesService.withRandomService(random), random);
+  }
+
+  /**
+   * Returns the {@link Unique#exact() exact} uniqueness scope with the given name, created the
+   * first time it's asked for, for example {@code faker.unique("email").of(() ->
+   * faker.internet().emailAddress())}. Every name is a scope of its own, so the values of one
+   * column never take up the space of another: a zip code only clashes with earlier zip codes, and
+   * a generator running out of values doesn't affect the others. Fakers from {@link #split()} or
+   * {@link #fork(long)} have scopes of their own; share a {@link Unique} between them to keep
+   * values unique across all of them.
+   *
+   * @param scope the name of the scope, such as the column the values are for
+   */
+  public Unique unique(String scope) {
+    return uniques.computeIfAbsent(scope, name -> Unique.exact());
+  }
+
   public Currency currency() {
-    return currency;
+    return currency.get();
   }
 
   FakeValuesService fakeValuesService() {
@@ -355,115 +446,115 @@ public class Faker {
   }
 
   public Ancient ancient() {
-    return ancient;
+    return ancient.get();
   }
 
   public App app() {
-    return app;
+    return app.get();
   }
 
   public Artist artist() {
-    return artist;
+    return artist.get();
   }
 
   public Avatar avatar() {
-    return avatar;
+    return avatar.get();
   }
 
   public Aviation aviation() {
-    return aviation;
+    return aviation.get();
   }
 
   public Music music() {
-    return music;
+    return music.get();
   }
 
   public Name name() {
-    return name;
+    return name.get();
   }
 
   public Number number() {
-    return number;
+    return number.get();
   }
 
   public Internet internet() {
-    return internet;
+    return internet.get();
   }
 
   public PhoneNumber phoneNumber() {
-    return phoneNumber;
+    return phoneNumber.get();
   }
 
   public Pokemon pokemon() {
-    return pokemon;
+    return pokemon.get();
   }
 
   public Lorem lorem() {
-    return lorem;
+    return lorem.get();
   }
 
   public Address address() {
-    return address;
+    return address.get();
   }
 
   public Book book() {
-    return book;
+    return book.get();
   }
 
   public Buffy buffy() {
-    return buffy;
+    return buffy.get();
   }
 
   public Business business() {
-    return business;
+    return business.get();
   }
 
   public ChuckNorris chuckNorris() {
-    return chuckNorris;
+    return chuckNorris.get();
   }
 
   public Color color() {
-    return color;
+    return color.get();
   }
 
   public Commerce commerce() {
-    return commerce;
+    return commerce.get();
   }
 
   public Company company() {
-    return company;
+    return company.get();
   }
 
   public Crypto crypto() {
-    return crypto;
+    return crypto.get();
   }
 
   public Hacker hacker() {
-    return hacker;
+    return hacker.get();
   }
 
   public IdNumber idNumber() {
-    return idNumber;
+    return idNumber.get();
   }
 
   public Options options() {
-    return options;
+    return options.get();
   }
 
   public Code code() {
-    return code;
+    return code.get();
   }
 
   public Coin coin() {
-    return coin;
+    return coin.get();
   }
 
   public File file() {
-    return file;
+    return file.get();
   }
 
   public Finance finance() {
-    return finance;
+    return finance.get();
   }
 
   /**
@@ -472,255 +563,255 @@ public class Faker {
    * @return a {@link CreditCard} instance
    */
   public CreditCard creditCard() {
-    return creditCard;
+    return creditCard.get();
   }
 
   public Food food() {
-    return food;
+    return food.get();
   }
 
   public ElderScrolls elderScrolls() {
-    return elderScrolls;
+    return elderScrolls.get();
   }
 
   public GameOfThrones gameOfThrones() {
-    return gameOfThrones;
+    return gameOfThrones.get();
   }
 
   public Gender gender() {
-    return gender;
+    return gender.get();
   }
 
   public DateAndTime date() {
-    return dateAndTime;
+    return dateAndTime.get();
   }
 
   public Demographic demographic() {
-    return demographic;
+    return demographic.get();
   }
 
   public Dog dog() {
-    return dog;
+    return dog.get();
   }
 
   public Educator educator() {
-    return educator;
+    return educator.get();
   }
 
   public SlackEmoji slackEmoji() {
-    return slackEmoji;
+    return slackEmoji.get();
   }
 
   public Shakespeare shakespeare() {
-    return shakespeare;
+    return shakespeare.get();
   }
 
   public Space space() {
-    return space;
+    return space.get();
   }
 
   public Superhero superhero() {
-    return superhero;
+    return superhero.get();
   }
 
   public Bool bool() {
-    return bool;
+    return bool.get();
   }
 
   public Team team() {
-    return team;
+    return team.get();
   }
 
   public Beer beer() {
-    return beer;
+    return beer.get();
   }
 
   public University university() {
-    return university;
+    return university.get();
   }
 
   public Cat cat() {
-    return cat;
+    return cat.get();
   }
 
   public Stock stock() {
-    return stock;
+    return stock.get();
   }
 
   public LordOfTheRings lordOfTheRings() {
-    return lordOfTheRings;
+    return lordOfTheRings.get();
   }
 
   public Zelda zelda() {
-    return zelda;
+    return zelda.get();
   }
 
   public HarryPotter harryPotter() {
-    return harryPotter;
+    return harryPotter.get();
   }
 
   public RockBand rockBand() {
-    return rockBand;
+    return rockBand.get();
   }
 
   public Esports esports() {
-    return esports;
+    return esports.get();
   }
 
   public Friends friends() {
-    return friends;
+    return friends.get();
   }
 
   public Hipster hipster() {
-    return hipster;
+    return hipster.get();
   }
 
   public Job job() {
-    return job;
+    return job.get();
   }
 
   public TwinPeaks twinPeaks() {
-    return twinPeaks;
+    return twinPeaks.get();
   }
 
   public RickAndMorty rickAndMorty() {
-    return rickAndMorty;
+    return rickAndMorty.get();
   }
 
   public Yoda yoda() {
-    return yoda;
+    return yoda.get();
   }
 
   public Matz matz() {
-    return matz;
+    return matz.get();
   }
 
   public Witcher witcher() {
-    return witcher;
+    return witcher.get();
   }
 
   public DragonBall dragonBall() {
-    return dragonBall;
+    return dragonBall.get();
   }
 
   public FunnyName funnyName() {
-    return funnyName;
+    return funnyName.get();
   }
 
   public HitchhikersGuideToTheGalaxy hitchhikersGuideToTheGalaxy() {
-    return hitchhikersGuideToTheGalaxy;
+    return hitchhikersGuideToTheGalaxy.get();
   }
 
   public Hobbit hobbit() {
-    return hobbit;
+    return hobbit.get();
   }
 
   public HowIMetYourMother howIMetYourMother() {
-    return howIMetYourMother;
+    return howIMetYourMother.get();
   }
 
   public LeagueOfLegends leagueOfLegends() {
-    return leagueOfLegends;
+    return leagueOfLegends.get();
   }
 
   public Overwatch overwatch() {
-    return overwatch;
+    return overwatch.get();
   }
 
   public Robin robin() {
-    return robin;
+    return robin.get();
   }
 
   public StarTrek starTrek() {
-    return starTrek;
+    return starTrek.get();
   }
 
   public Weather weather() {
-    return weather;
+    return weather.get();
   }
 
   public Lebowski lebowski() {
-    return lebowski;
+    return lebowski.get();
   }
 
   public Medical medical() {
-    return medical;
+    return medical.get();
   }
 
   public Country country() {
-    return country;
+    return country.get();
   }
 
   public Animal animal() {
-    return animal;
+    return animal.get();
   }
 
   public BackToTheFuture backToTheFuture() {
-    return backToTheFuture;
+    return backToTheFuture.get();
   }
 
   public PrincessBride princessBride() {
-    return princessBride;
+    return princessBride.get();
   }
 
   public Relationships relationships() {
-    return relationships;
+    return relationships.get();
   }
 
   public Nation nation() {
-    return nation;
+    return nation.get();
   }
 
   public Dune dune() {
-    return dune;
+    return dune.get();
   }
 
   public AquaTeenHungerForce aquaTeenHungerForce() {
-    return aquaTeenHungerForce;
+    return aquaTeenHungerForce.get();
   }
 
   public ProgrammingLanguage programmingLanguage() {
-    return programmingLanguage;
+    return programmingLanguage.get();
   }
 
   public Kaamelott kaamelott() {
-    return kaamelott;
+    return kaamelott.get();
   }
 
   public Photography photography() {
-    return photography;
+    return photography.get();
   }
 
   public StarCraft starCraft() {
-    return starCraft;
+    return starCraft.get();
   }
 
   public BojackHorseman bojackHorseman() {
-    return bojackHorseman;
+    return bojackHorseman.get();
   }
 
   public Disease disease() {
-    return disease;
+    return disease.get();
   }
 
   public Basketball basketball() {
-    return basketball;
+    return basketball.get();
   }
 
   public Barcode barcode() {
-    return barcode;
+    return barcode.get();
   }
 
   public Sip sip() {
-    return sip;
+    return sip.get();
   }
 
   public EnglandFootBall englandfootball() {
-    return englandfootball;
+    return englandfootball.get();
   }
 
   public Mountain mountain() {
-    return mountain;
+    return mountain.get();
   }
 
   /**
@@ -729,7 +820,7 @@ public class Faker {
    * @return a {@link Shipping} instance
    */
   public Shipping shipping() {
-    return shipping;
+    return shipping.get();
   }
 
   /**
@@ -738,7 +829,7 @@ public class Faker {
    * @return a {@link Vehicle} instance
    */
   public Vehicle vehicle() {
-    return vehicle;
+    return vehicle.get();
   }
 
   /**
@@ -747,7 +838,7 @@ public class Faker {
    * @return a {@link Subscription} instance
    */
   public Subscription subscription() {
-    return subscription;
+    return subscription.get();
   }
 
   /**
@@ -757,7 +848,7 @@ public class Faker {
    * @return a {@link Temporal} instance
    */
   public Temporal temporal() {
-    return temporal;
+    return temporal.get();
   }
 
   public String resolve(String key) {
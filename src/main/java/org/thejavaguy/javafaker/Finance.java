@@ -1,11 +1,11 @@
 package org.thejavaguy.javafaker;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.lang3.StringUtils;
+import org.thejavaguy.javafaker.service.Checksums;
+import org.thejavaguy.javafaker.service.RandomService;
 
 public class Finance {
   private final Faker faker;
@@ -14,35 +14,73 @@ public class Finance {
     this.faker = faker;
   }
 
-  private static final Map<String, String> countryCodeToBasicBankAccountNumberPattern =
-      createCountryCodeToBasicBankAccountNumberPatternMap();
+  private static final char[] DIGITS = "0123456789".toCharArray();
+  private static final char[] UPPER_CASE_LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+  private static final char[] DIGITS_AND_UPPER_CASE_LETTERS =
+      "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+  private static final char[] DIGITS_AND_LETTERS =
+      "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+  private static final Map<String, IbanFormat> ibanFormatsByCountryCode = new HashMap<>();
+  private static final IbanFormat[] ibanFormats;
+
+  static {
+    final Map<String, String> patterns = createCountryCodeToBasicBankAccountNumberPatternMap();
+    ibanFormats = new IbanFormat[patterns.size()];
+    int i = 0;
+    for (Map.Entry<String, String> pattern : patterns.entrySet()) {
+      final IbanFormat format = new IbanFormat(pattern.getKey(), pattern.getValue());
+      ibanFormatsByCountryCode.put(pattern.getKey(), format);
+      ibanFormats[i++] = format;
+    }
+  }
 
   public String creditCard(CreditCardType creditCardType) {
+    return creditCard(creditCardType, true);
+  }
+
+  /**
+   * Fills in the card number template of the type, such as {@code /4###-####-####-###L/}, and puts
+   * the Luhn check digit in place of the L.
+   *
+   * @param withSeparators whether to keep the dashes and spaces of the template
+   */
+  String creditCard(CreditCardType creditCardType, boolean withSeparators) {
     final String key =
         String.format("finance.credit_card.%s", creditCardType.toString().toLowerCase());
     String value = faker.fakeValuesService().resolve(key, this, faker);
-    final String template = faker.numerify(value);
-
-    String[] split = template.replaceAll("[^0-9]", "").split("");
-    List<Integer> reversedAsInt = new ArrayList<>();
-    for (int i = 0; i < split.length; i++) {
-      final String current = split[split.length - 1 - i];
-      if (!current.isEmpty()) {
-        reversedAsInt.add(Integer.valueOf(current));
+    final char[] template = faker.numerify(value).toCharArray();
+
+    // the template is wrapped in slashes, and may have backslashes, neither of which are kept
+    int start = 0;
+    int end = template.length;
+    while (start < end && isSpaceOrSlash(template[start])) {
+      start++;
+    }
+    while (end > start && isSpaceOrSlash(template[end - 1])) {
+      end--;
+    }
+    final char[] number = new char[end - start];
+    int length = 0;
+    for (int i = start; i < end; i++) {
+      final char c = template[i];
+      if (withSeparators) {
+        number[length++] = isSpaceOrSlash(c) ? ' ' : c;
+      } else if (c != '-' && !isSpaceOrSlash(c) && !Character.isWhitespace(c)) {
+        number[length++] = c;
       }
     }
-    int luhnSum = 0;
-    int multiplier = 1;
-    for (Integer digit : reversedAsInt) {
-      multiplier = (multiplier == 2 ? 1 : 2);
-      luhnSum += sum(String.valueOf(digit * multiplier).split(""));
+    final int luhnDigit = Checksums.luhnCheckDigit(number, 0, length);
+    for (int i = 0; i < length; i++) {
+      if (number[i] == 'L') {
+        number[i] = (char) ('0' + luhnDigit);
+      }
     }
-    int luhnDigit = (10 - (luhnSum % 10)) % 10;
-    return template
-        .replace('\\', ' ')
-        .replace('/', ' ')
-        .trim()
-        .replace('L', String.valueOf(luhnDigit).charAt(0));
+    return new String(number, 0, length);
+  }
+
+  private static boolean isSpaceOrSlash(char c) {
+    return c == '/' || c == '\\' || c == ' ';
   }
 
   public String creditCard() {
@@ -50,54 +88,53 @@ public class Finance {
     return creditCard(type);
   }
 
-  /** Generates a random Business Identifier Code */
+  /**
+   * Generates a random Business Identifier Code: a four letter bank code, a two letter country
+   * code, a two character location code and, half of the time, a three character branch code.
+   */
   public String bic() {
-    return faker.regexify("([A-Z]){4}([A-Z]){2}([0-9A-Z]){2}([0-9A-Z]{3})?");
+    final boolean withBranch = faker.random().nextBoolean();
+    final char[] bic = new char[withBranch ? 11 : 8];
+    faker.random().fillChars(bic, 0, 6, UPPER_CASE_LETTERS);
+    faker.random().fillChars(bic, 6, bic.length - 6, DIGITS_AND_UPPER_CASE_LETTERS);
+    return new String(bic);
   }
 
   public String iban() {
-    List<String> countryCodes =
-        new ArrayList<>(countryCodeToBasicBankAccountNumberPattern.keySet());
-    String randomCountryCode = countryCodes.get(faker.random().nextInt(countryCodes.size()));
-    return iban(randomCountryCode);
+    return ibanFormats[faker.random().nextInt(ibanFormats.length)].generate(faker.random());
   }
 
   public String iban(String countryCode) {
-    String basicBankAccountNumber =
-        faker.regexify(countryCodeToBasicBankAccountNumberPattern.get(countryCode));
-    String checkSum = calculateIbanChecksum(countryCode, basicBankAccountNumber);
-    return countryCode + checkSum + basicBankAccountNumber;
+    return ibanFormat(countryCode).generate(faker.random());
   }
 
-  private CreditCardType randomCreditCardType() {
-    return CreditCardType.values()[this.faker.random().nextInt(CreditCardType.values().length)];
-  }
-
-  private static int sum(String[] string) {
-    int sum = 0;
-    for (String s : string) {
-      if (!s.isEmpty()) {
-        sum += Integer.parseInt(s);
-      }
+  /**
+   * Generates n valid IBANs of one country, for fixtures that need a lot of them. Each IBAN costs
+   * the bulk draws of its characters and one String.
+   *
+   * @param countryCode the two letter code of a country that uses IBANs, such as "DE"
+   */
+  public List<String> ibans(String countryCode, int n) {
+    final IbanFormat format = ibanFormat(countryCode);
+    final char[] iban = format.template();
+    final List<String> ibans = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      format.fill(iban, faker.random());
+      ibans.add(new String(iban));
     }
-    return sum;
+    return ibans;
   }
 
-  private static String calculateIbanChecksum(String countryCode, String basicBankAccountNumber) {
-    String basis = basicBankAccountNumber + countryCode + "00";
-
-    StringBuilder sb = new StringBuilder();
-    char[] characters = basis.toLowerCase().toCharArray();
-    for (char c : characters) {
-      if (Character.isLetter(c)) {
-        sb.append(String.valueOf((c - 'a') + 10));
-      } else {
-        sb.append(c);
-      }
+  private static IbanFormat ibanFormat(String countryCode) {
+    final IbanFormat format = ibanFormatsByCountryCode.get(countryCode);
+    if (format == null) {
+      throw new IllegalArgumentException("no IBAN format for country code " + countryCode);
     }
+    return format;
+  }
 
-    int mod97 = new BigInteger(sb.toString()).mod(BigInteger.valueOf(97L)).intValue();
-    return StringUtils.leftPad(String.valueOf(98 - mod97), 2, '0');
+  private CreditCardType randomCreditCardType() {
+    return CreditCardType.values()[this.faker.random().nextInt(CreditCardType.values().length)];
   }
 
   private static Map<String, String> createCountryCodeToBasicBankAccountNumberPatternMap() {
@@ -173,4 +210,89 @@ public class Finance {
     ibanFormats.put("VG", "[A-Z]{4}\\d{16}");
     return ibanFormats;
   }
+
+  /**
+   * The layout of the IBANs of a country: the country code, two check digits, then the basic bank
+   * account number as runs of characters from a fixed alphabet, compiled once from its pattern.
+   */
+  private static final class IbanFormat {
+    private final String countryCode;
+    private final char[][] alphabets;
+    private final int[] lengths;
+    private final int length;
+
+    IbanFormat(String countryCode, String bbanPattern) {
+      this.countryCode = countryCode;
+      final List<char[]> alphabets = new ArrayList<>();
+      final List<Integer> lengths = new ArrayList<>();
+      int i = 0;
+      while (i < bbanPattern.length()) {
+        final int end =
+            bbanPattern.startsWith("\\d", i) ? i + 2 : bbanPattern.indexOf(']', i) + 1;
+        final char[] alphabet = alphabet(bbanPattern.substring(i, end));
+        int count = 1;
+        i = end;
+        if (i < bbanPattern.length() && bbanPattern.charAt(i) == '{') {
+          final int close = bbanPattern.indexOf('}', i);
+          count = Integer.parseInt(bbanPattern.substring(i + 1, close));
+          i = close + 1;
+        }
+        // neighbouring runs of the same alphabet are drawn as one
+        final int last = alphabets.size() - 1;
+        if (last >= 0 && alphabets.get(last) == alphabet) {
+          lengths.set(last, lengths.get(last) + count);
+        } else {
+          alphabets.add(alphabet);
+          lengths.add(count);
+        }
+      }
+      this.alphabets = alphabets.toArray(new char[0][]);
+      this.lengths = new int[lengths.size()];
+      int length = 4;
+      for (int run = 0; run < this.lengths.length; run++) {
+        this.lengths[run] = lengths.get(run);
+        length += this.lengths[run];
+      }
+      this.length = length;
+    }
+
+    private static char[] alphabet(String characterClass) {
+      switch (characterClass) {
+        case "\\d":
+          return DIGITS;
+        case "[A-Z]":
+          return UPPER_CASE_LETTERS;
+        case "[0-9A-Za-z]":
+          return DIGITS_AND_LETTERS;
+        default:
+          throw new IllegalStateException("unsupported IBAN character class " + characterClass);
+      }
+    }
+
+    /** @return a new IBAN sized array that already holds the country code */
+    char[] template() {
+      final char[] iban = new char[length];
+      iban[0] = countryCode.charAt(0);
+      iban[1] = countryCode.charAt(1);
+      return iban;
+    }
+
+    String generate(RandomService random) {
+      final char[] iban = template();
+      fill(iban, random);
+      return new String(iban);
+    }
+
+    /** Draws the basic bank account number into a template and computes its check digits. */
+    void fill(char[] iban, RandomService random) {
+      int offset = 4;
+      for (int run = 0; run < alphabets.length; run++) {
+        random.fillChars(iban, offset, lengths[run], alphabets[run]);
+        offset += lengths[run];
+      }
+      final int checkDigits = Checksums.ibanCheckDigits(countryCode, iban, 4, length - 4);
+      iban[2] = (char) ('0' + checkDigits / 10);
+      iban[3] = (char) ('0' + checkDigits % 10);
+    }
+  }
 }
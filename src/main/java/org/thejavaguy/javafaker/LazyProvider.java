@@ -0,0 +1,32 @@
+package org.thejavaguy.javafaker;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds a provider of a {@link Faker} that is only created the first time it's asked for. Safe to
+ * use from many threads: the provider is created once and reading it afterwards doesn't lock.
+ */
+final class LazyProvider<T> {
+  private Supplier<T> factory;
+  private volatile T provider;
+
+  LazyProvider(Supplier<T> factory) {
+    this.factory = factory;
+  }
+
+  T get() {
+    T result = provider;
+    if (result == null) {
+      synchronized (this) {
+        result = provider;
+        if (result == null) {
+          result = factory.get();
+          provider = result;
+          // the factory captures the faker, there's no need to keep it around any longer
+          factory = null;
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -1,15 +1,29 @@
 package org.thejavaguy.javafaker;
 
-import static org.apache.commons.lang3.StringUtils.capitalize;
-import static org.apache.commons.lang3.StringUtils.join;
-
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Lorem ipsum text. Besides the methods returning strings and lists, words, sentences, paragraphs
+ * and fixed length text can be streamed into any {@link Appendable}, such as a {@link
+ * java.io.Writer}, or into a {@link ByteBuffer}. Streaming holds at most one paragraph in memory,
+ * so it can produce gigabytes of text.
+ */
 public class Lorem {
+  private static final String[] NOT_PRE_RESOLVED = new String[0];
+
   private final Faker faker;
 
+  /** The pre-resolved words, or null until the first word is drawn. */
+  private volatile String[] words;
+
   protected Lorem(Faker faker) {
     this.faker = faker;
   }
@@ -91,7 +105,59 @@ public class Lorem {
   }
 
   public String word() {
-    return faker.fakeValuesService().resolve("lorem.words", this, faker);
+    String[] words = this.words;
+    if (words == null) {
+      // resolving twice on a race gives the same words, so there's no need to lock
+      words = preResolveWords();
+      this.words = words;
+    }
+    if (words == NOT_PRE_RESOLVED) {
+      return faker.fakeValuesService().resolve("lorem.words", this, faker);
+    }
+    return words[faker.random().nextInt(words.length)];
+  }
+
+  /**
+   * Appends num words separated by spaces to out.
+   *
+   * @return out
+   */
+  public <A extends Appendable> A words(int num, A out) {
+    try {
+      for (int i = 0; i < num; i++) {
+        if (i > 0) {
+          out.append(' ');
+        }
+        out.append(word());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out;
+  }
+
+  /**
+   * The words of the locale, when they are a plain list of strings, so that a word is a single
+   * draw from an array rather than a resolution of "lorem.words". Weighted lists and words that
+   * are expressions still go through {@link #word()}'s resolution.
+   */
+  private String[] preResolveWords() {
+    final Object words = faker.fakeValuesService().fetchObject("lorem.words");
+    if (!(words instanceof List) || faker.fakeValuesService().isWeightedList("lorem.words")) {
+      return NOT_PRE_RESOLVED;
+    }
+    final List<?> list = (List<?>) words;
+    final String[] resolved = new String[list.size()];
+    for (int i = 0; i < resolved.length; i++) {
+      if (!(list.get(i) instanceof String)) {
+        return NOT_PRE_RESOLVED;
+      }
+      resolved[i] = (String) list.get(i);
+      if (resolved[i].contains("#{") || resolved[i].startsWith("/")) {
+        return NOT_PRE_RESOLVED;
+      }
+    }
+    return resolved.length == 0 ? NOT_PRE_RESOLVED : resolved;
   }
 
   /**
@@ -123,8 +189,26 @@ public class Lorem {
    * @return a random sentence
    */
   public String sentence(int wordCount, int randomWordsToAdd) {
+    return appendSentence(wordCount, randomWordsToAdd, new StringBuilder()).toString();
+  }
+
+  private StringBuilder appendSentence(int wordCount, int randomWordsToAdd, StringBuilder out) {
     int numberOfWordsToAdd = randomWordsToAdd == 0 ? 0 : faker.random().nextInt(randomWordsToAdd);
-    return capitalize(join(words(wordCount + numberOfWordsToAdd), " ") + ".");
+    final int start = out.length();
+    for (int i = 0; i < wordCount + numberOfWordsToAdd; i++) {
+      if (i > 0) {
+        out.append(' ');
+      }
+      out.append(word());
+    }
+    out.append('.');
+    final int first = out.codePointAt(start);
+    final int capitalized = Character.toTitleCase(first);
+    if (capitalized != first) {
+      out.replace(
+          start, start + Character.charCount(first), new String(Character.toChars(capitalized)));
+    }
+    return out;
   }
 
   public List<String> sentences(int sentenceCount) {
@@ -135,8 +219,36 @@ public class Lorem {
     return sentences;
   }
 
+  /**
+   * Appends sentenceCount sentences separated by spaces to out.
+   *
+   * @return out
+   */
+  public <A extends Appendable> A sentences(int sentenceCount, A out) {
+    final StringBuilder sentence = new StringBuilder();
+    for (int i = 0; i < sentenceCount; i++) {
+      sentence.setLength(0);
+      if (i > 0) {
+        sentence.append(' ');
+      }
+      append(out, appendSentence(3, 6, sentence));
+    }
+    return out;
+  }
+
   public String paragraph(int sentenceCount) {
-    return join(sentences(sentenceCount + faker.random().nextInt(3)), " ");
+    return appendParagraph(sentenceCount, new StringBuilder()).toString();
+  }
+
+  private StringBuilder appendParagraph(int sentenceCount, StringBuilder out) {
+    final int count = sentenceCount + faker.random().nextInt(3);
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        out.append(' ');
+      }
+      appendSentence(3, 6, out);
+    }
+    return out;
   }
 
   public String paragraph() {
@@ -151,6 +263,55 @@ public class Lorem {
     return paragraphs;
   }
 
+  /**
+   * Appends paragraphCount paragraphs separated by line breaks to out.
+   *
+   * @return out
+   */
+  public <A extends Appendable> A paragraphs(int paragraphCount, A out) {
+    final StringBuilder paragraph = new StringBuilder();
+    for (int i = 0; i < paragraphCount; i++) {
+      paragraph.setLength(0);
+      if (i > 0) {
+        paragraph.append('\n');
+      }
+      append(out, appendParagraph(3, paragraph));
+    }
+    return out;
+  }
+
+  /**
+   * Fills the remaining bytes of out with paragraphs separated by line breaks, encoded in UTF-8.
+   * When the next character doesn't fit, the last few bytes are filled with spaces instead, so out
+   * always ends up full.
+   *
+   * @return out
+   */
+  public ByteBuffer paragraphs(ByteBuffer out) {
+    final CharsetEncoder encoder =
+        StandardCharsets.UTF_8
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    final StringBuilder paragraph = new StringBuilder();
+    boolean first = true;
+    while (out.hasRemaining()) {
+      paragraph.setLength(0);
+      if (!first) {
+        paragraph.append('\n');
+      }
+      first = false;
+      final CharBuffer chars = CharBuffer.wrap(appendParagraph(3, paragraph));
+      if (encoder.encode(chars, out, true).isOverflow()) {
+        while (out.hasRemaining()) {
+          out.put((byte) ' ');
+        }
+      }
+      encoder.reset();
+    }
+    return out;
+  }
+
   /**
    * Create a string with a fixed size. Can be useful for testing validator based on length string
    * for example
@@ -159,11 +320,39 @@ public class Lorem {
    * @return a string with a fixed size
    */
   public String fixedString(int numberOfLetters) {
-    StringBuilder builder = new StringBuilder();
-    while (builder.length() < numberOfLetters) {
-      builder.append(sentence());
+    return fixedString(numberOfLetters, new StringBuilder(Math.max(numberOfLetters, 0))).toString();
+  }
+
+  /**
+   * Like {@link #fixedString(int)}, but appends the text to out a sentence at a time, so it can be
+   * as long as out can take.
+   *
+   * @param numberOfLetters number of characters to append
+   * @return out
+   */
+  public <A extends Appendable> A fixedString(long numberOfLetters, A out) {
+    final StringBuilder sentence = new StringBuilder();
+    long remaining = numberOfLetters;
+    while (remaining > 0) {
+      sentence.setLength(0);
+      appendSentence(3, 6, sentence);
+      final int length = (int) Math.min(sentence.length(), remaining);
+      append(out, sentence, length);
+      remaining -= length;
+    }
+    return out;
+  }
+
+  private static void append(Appendable out, StringBuilder chars) {
+    append(out, chars, chars.length());
+  }
+
+  private static void append(Appendable out, StringBuilder chars, int length) {
+    try {
+      out.append(chars, 0, length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
-    return StringUtils.substring(builder.toString(), 0, numberOfLetters);
   }
 
   static {
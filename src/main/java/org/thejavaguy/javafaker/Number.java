@@ -1,9 +1,11 @@
 package org.thejavaguy.javafaker;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import org.thejavaguy.javafaker.service.RandomService;
 
 public class Number {
+  /** Beyond this magnitude a double has no fractional digits left to round. */
+  private static final double NO_FRACTION = 0x1p52;
+
   private final Faker faker;
 
   protected Number(Faker faker) {
@@ -12,22 +14,19 @@ public class Number {
 
   /** Returns a random number from 0-9 (both inclusive) */
   public int randomDigit() {
-    return decimalBetween(0, 10).intValue();
+    return (int) below(faker.random(), 10);
   }
 
   /** Returns a random number from 1-9 (both inclusive) */
   public int randomDigitNotZero() {
-    return decimalBetween(1, 10).intValue();
+    return 1 + (int) below(faker.random(), 9);
   }
 
   /**
    * @see Number#numberBetween(long, long)
    */
   public int numberBetween(int min, int max) {
-    if (min == max) return min;
-
-    int value = decimalBetween(min, max).setScale(0, RoundingMode.HALF_DOWN).intValue();
-    return value == max ? value - 1 : value;
+    return (int) numberBetween((long) min, (long) max);
   }
 
   /**
@@ -40,8 +39,10 @@ public class Number {
   public long numberBetween(long min, long max) {
     if (min == max) return min;
 
-    long value = decimalBetween(min, max).setScale(0, RoundingMode.HALF_DOWN).longValue();
-    return value == max ? value - 1 : value;
+    final long trueMin = Math.min(min, max);
+    final long trueMax = Math.max(min, max);
+    // the span may not fit in a signed long, but it's right as an unsigned one
+    return trueMin + below(faker.random(), trueMax - trueMin);
   }
 
   /**
@@ -61,7 +62,7 @@ public class Number {
 
   /** Returns a random number */
   public long randomNumber() {
-    int numberOfDigits = decimalBetween(1, 10).intValue();
+    int numberOfDigits = 1 + (int) below(faker.random(), 9);
     return randomNumber(numberOfDigits, false);
   }
 
@@ -77,39 +78,54 @@ public class Number {
    * @param max maximum value
    */
   public double randomDouble(int maxNumberOfDecimals, long min, long max) {
-    return decimalBetween(min, max)
-        .setScale(maxNumberOfDecimals, RoundingMode.HALF_DOWN)
-        .doubleValue();
+    if (min == max) {
+      return min;
+    }
+    final double trueMin = Math.min(min, max);
+    final double trueMax = Math.max(min, max);
+    final double value = trueMin + faker.random().nextDouble() * (trueMax - trueMin);
+
+    final double scale = Math.pow(10, maxNumberOfDecimals);
+    if (!(Math.abs(value) * scale < NO_FRACTION)) {
+      return value;
+    }
+    // dividing the rounded whole number by the power of ten gives the double nearest to the
+    // decimal, just like BigDecimal.doubleValue() does
+    return Math.rint(value * scale) / scale;
   }
 
   /**
-   * @param min inclusive
-   * @param max exclusive
-   * @return
+   * Draws a long from 0 (inclusive) to bound (exclusive) with Lemire's multiply-and-reject method.
+   * The bound is read as an unsigned long, so that every range of longs has one, and a draw is
+   * only rejected with a probability below bound / 2^64.
    */
-  private BigDecimal decimalBetween(long min, long max) {
-    if (min == max) {
-      return new BigDecimal(min);
+  private static long below(RandomService random, long bound) {
+    long value = random.nextLong();
+    long high = unsignedMultiplyHigh(value, bound);
+    long low = value * bound;
+    if (Long.compareUnsigned(low, bound) < 0) {
+      final long threshold = Long.remainderUnsigned(-bound, bound);
+      while (Long.compareUnsigned(low, threshold) < 0) {
+        value = random.nextLong();
+        high = unsignedMultiplyHigh(value, bound);
+        low = value * bound;
+      }
     }
-    final long trueMin = Math.min(min, max);
-    final long trueMax = Math.max(min, max);
-
-    final double range = (double) trueMax - (double) trueMin;
-
-    final double chunkCount = Math.sqrt(Math.abs(range));
-    final long randomChunk = faker.random().nextLong((long) chunkCount);
+    return high;
+  }
 
-    final double chunkStart = trueMin + randomChunk * chunkCount;
-    final double adj = chunkCount * faker.random().nextDouble();
-    return new BigDecimal(chunkStart + adj);
+  /** The upper 64 bits of the unsigned 128 bit product, Math.unsignedMultiplyHigh of Java 18. */
+  private static long unsignedMultiplyHigh(long x, long y) {
+    return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
   }
 
   public String digits(int count) {
-    final StringBuilder tmp = new StringBuilder();
-    for (int i = 0; i < count; i++) {
-      tmp.append(randomDigit());
+    if (count <= 0) {
+      return "";
     }
-    return tmp.toString();
+    final char[] digits = new char[count];
+    faker.random().fillDigits(digits, 0, count);
+    return new String(digits);
   }
 
   public String digit() {
@@ -1,6 +1,10 @@
 package org.thejavaguy.javafaker;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 public class Options {
   private final Faker faker;
@@ -52,4 +56,102 @@ public class Options {
   public <E> E nextElement(List<E> list) {
     return list.get(faker.random().nextInt(list.size()));
   }
+
+  /**
+   * Returns k distinct elements of a list, in random order. This is a partial Fisher-Yates shuffle
+   * that only keeps track of the positions it touched, so it takes k draws and leaves the list as
+   * it is.
+   *
+   * @param list The list to take the elements from.
+   * @param k How many elements to take, at most the size of the list.
+   * @param <E> The type of the elements in the list.
+   * @return A new list of k elements at distinct positions of the list.
+   */
+  public <E> List<E> sample(List<E> list, int k) {
+    final int n = list.size();
+    if (k < 0 || k > n) {
+      throw new IllegalArgumentException("k must be between 0 and " + n + ", was " + k);
+    }
+    final Map<Integer, Integer> swapped = new HashMap<>();
+    final List<E> sample = new ArrayList<>(k);
+    for (int i = 0; i < k; i++) {
+      final int j = i + faker.random().nextInt(n - i);
+      final int picked = swapped.getOrDefault(j, j);
+      swapped.put(j, swapped.getOrDefault(i, i));
+      sample.add(list.get(picked));
+    }
+    return sample;
+  }
+
+  /**
+   * Takes k elements at random from elements of unknown number, in a single pass, with Li's
+   * reservoir sampling "algorithm L". Runs of elements are skipped with one draw, so long inputs
+   * only take about k * log(n / k) draws.
+   *
+   * @param elements The elements to take a sample of; read to the end.
+   * @param k How many elements to take.
+   * @param <E> The type of the elements.
+   * @return A new list of k of the elements (all of them if there are fewer), in no given order.
+   */
+  public <E> List<E> sample(Iterator<? extends E> elements, int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k must not be negative, was " + k);
+    }
+    final List<E> reservoir = new ArrayList<>(k);
+    while (reservoir.size() < k && elements.hasNext()) {
+      reservoir.add(elements.next());
+    }
+    if (k == 0 || !elements.hasNext()) {
+      return reservoir;
+    }
+    double w = Math.exp(Math.log(nextOpenDouble()) / k);
+    while (true) {
+      long skip = (long) Math.floor(Math.log(nextOpenDouble()) / Math.log1p(-w));
+      while (skip-- > 0 && elements.hasNext()) {
+        elements.next();
+      }
+      if (!elements.hasNext()) {
+        return reservoir;
+      }
+      reservoir.set(faker.random().nextInt(k), elements.next());
+      w *= Math.exp(Math.log(nextOpenDouble()) / k);
+    }
+  }
+
+  /** @return a random double above 0 and at most 1, so that its logarithm is finite */
+  private double nextOpenDouble() {
+    return 1.0 - faker.random().nextDouble();
+  }
+
+  /**
+   * Shuffles a list in place with the Fisher-Yates algorithm.
+   *
+   * @param list The list to shuffle; it must support {@link List#set(int, Object)}.
+   * @param <E> The type of the elements in the list.
+   * @return The same list, shuffled.
+   */
+  public <E> List<E> shuffle(List<E> list) {
+    for (int i = list.size() - 1; i > 0; i--) {
+      final int j = faker.random().nextInt(i + 1);
+      list.set(i, list.set(j, list.get(i)));
+    }
+    return list;
+  }
+
+  /**
+   * Returns a random permutation of the numbers from 0 (inclusive) to n (exclusive), built with
+   * the "inside-out" Fisher-Yates algorithm.
+   *
+   * @param n How many numbers to permute.
+   * @return A new array of each number from 0 to n - 1 once, in random order.
+   */
+  public int[] permutation(int n) {
+    final int[] permutation = new int[n];
+    for (int i = 0; i < n; i++) {
+      final int j = faker.random().nextInt(i + 1);
+      permutation[i] = permutation[j];
+      permutation[j] = i;
+    }
+    return permutation;
+  }
 }
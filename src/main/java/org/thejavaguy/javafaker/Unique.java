@@ -0,0 +1,242 @@
+package org.thejavaguy.javafaker;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.function.Supplier;
+
+/**
+ * Makes the values of any generator unique within a scope, for data with unique constraints such
+ * as emails, usernames or IBANs:
+ *
+ * <pre>
+ * String email = faker.unique("email").of(() -&gt; faker.internet().emailAddress());
+ * </pre>
+ *
+ * <p>A scope is shared by every generator whose values go through it, so give each column its own:
+ * {@link Faker#unique(String)} keeps one per name, and {@link #exact()} and {@link
+ * #approximate(long, double)} create scopes that aren't tied to a Faker.
+ *
+ * <p>Only a 64 bit fingerprint of each value is kept, in memory outside of the Java heap. In the
+ * {@link #exact() exact} mode the fingerprints are kept in a hash set, taking 11 to 21 bytes per
+ * value, for up to {@value #MAX_EXACT_VALUES} values; two different values only clash if their
+ * fingerprints do, which takes billions of values to become likely. In the {@link
+ * #approximate(long, double) approximate} mode they go into a Bloom filter of a fixed size instead:
+ * a value the filter wrongly thinks it has seen is skipped, so values still never repeat, some new
+ * ones are just passed over.
+ *
+ * <p>When a generator hasn't come up with a new value after {@value #MAX_ATTEMPTS} attempts in a
+ * row, it's taken to have run out of values and an {@link IllegalStateException} is thrown.
+ */
+public final class Unique {
+
+  /** How many repeated values in a row it takes to give up on a generator. */
+  public static final int MAX_ATTEMPTS = 10_000;
+
+  /**
+   * How many values an {@link #exact() exact} scope can hold: three quarters of the largest hash
+   * set a direct buffer can hold, which takes 1 GB.
+   */
+  public static final int MAX_EXACT_VALUES = FingerprintSet.MAX_CAPACITY / 4 * 3;
+
+  private final Seen seen;
+  private long size;
+
+  private Unique(Seen seen) {
+    this.seen = seen;
+  }
+
+  /**
+   * Keeps the fingerprint of every value, so every new value is accepted, for up to {@value
+   * #MAX_EXACT_VALUES} values. The hash set doubles in size as it fills up; the direct memory of
+   * the set it outgrew is only released once that set is garbage collected, so while growing the
+   * scope can briefly take up to one and a half times its size. Use {@link #approximate(long,
+   * double)} for more values, or to bound the memory up front.
+   */
+  public static Unique exact() {
+    return new Unique(new FingerprintSet());
+  }
+
+  /**
+   * Keeps a Bloom filter sized for the expected number of values. It takes about 1.2 bytes per
+   * value for a false positive rate of 1%, and 1.8 bytes for 0.1%.
+   *
+   * @param expectedValues how many values the filter is sized for; beyond that, more and more new
+   *     values are wrongly rejected
+   * @param falsePositiveRate the share of new values that are rejected, between 0 and 1
+   */
+  public static Unique approximate(long expectedValues, double falsePositiveRate) {
+    if (expectedValues <= 0) {
+      throw new IllegalArgumentException("expectedValues must be positive");
+    }
+    if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+    }
+    return new Unique(new BloomFilter(expectedValues, falsePositiveRate));
+  }
+
+  /**
+   * Calls the generator until it returns a value that this scope hasn't returned before.
+   *
+   * @throws IllegalStateException when the generator seems to have run out of new values, or when
+   *     an exact scope already holds {@value #MAX_EXACT_VALUES} values
+   */
+  public <T> T of(Supplier<T> generator) {
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      final T value = generator.get();
+      final long fingerprint = fingerprint(String.valueOf(value));
+      synchronized (this) {
+        if (seen.add(fingerprint)) {
+          size++;
+          return value;
+        }
+      }
+    }
+    throw new IllegalStateException(
+        "no new value after " + MAX_ATTEMPTS + " attempts, the generator seems to have run out");
+  }
+
+  /** @return how many values this scope has returned */
+  public synchronized long size() {
+    return size;
+  }
+
+  /** Forgets every value, so they can all be returned again. */
+  public synchronized void clear() {
+    seen.clear();
+    size = 0;
+  }
+
+  /** FNV-1a over the chars, then the SplitMix64 mixer so every bit depends on every char. */
+  static long fingerprint(CharSequence value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+    }
+    return mix64(hash);
+  }
+
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  private static LongBuffer allocate(long longs) {
+    if (longs > Integer.MAX_VALUE / Long.BYTES) {
+      throw new IllegalStateException("keeping track of that many values takes over 2 GB");
+    }
+    return ByteBuffer.allocateDirect((int) longs * Long.BYTES).asLongBuffer();
+  }
+
+  private interface Seen {
+    /** @return true if the fingerprint is new, after remembering it */
+    boolean add(long fingerprint);
+
+    void clear();
+  }
+
+  /** Open addressing with linear probing; 0 marks an empty slot. */
+  private static final class FingerprintSet implements Seen {
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    /** The largest power of two of longs that fits in a direct buffer. */
+    static final int MAX_CAPACITY = 1 << 27;
+
+    private LongBuffer slots = allocate(INITIAL_CAPACITY);
+    private int mask = INITIAL_CAPACITY - 1;
+    private int count;
+
+    @Override
+    public boolean add(long fingerprint) {
+      // 0 marks empty slots, so it shares a slot with 1
+      final long key = fingerprint == 0 ? 1 : fingerprint;
+      if (count == (mask + 1) / 4 * 3) {
+        if (mask + 1 == MAX_CAPACITY) {
+          throw new IllegalStateException(
+              "an exact scope holds at most " + MAX_EXACT_VALUES + " values, use approximate()");
+        }
+        grow();
+      }
+      if (!insert(slots, mask, key)) {
+        return false;
+      }
+      count++;
+      return true;
+    }
+
+    private static boolean insert(LongBuffer slots, int mask, long key) {
+      for (int i = (int) key & mask; ; i = (i + 1) & mask) {
+        final long slot = slots.get(i);
+        if (slot == 0) {
+          slots.put(i, key);
+          return true;
+        }
+        if (slot == key) {
+          return false;
+        }
+      }
+    }
+
+    private void grow() {
+      final int capacity = (mask + 1) * 2;
+      final LongBuffer grown = allocate(capacity);
+      for (int i = 0; i <= mask; i++) {
+        final long key = slots.get(i);
+        if (key != 0) {
+          insert(grown, capacity - 1, key);
+        }
+      }
+      slots = grown;
+      mask = capacity - 1;
+    }
+
+    @Override
+    public void clear() {
+      slots = allocate(INITIAL_CAPACITY);
+      mask = INITIAL_CAPACITY - 1;
+      count = 0;
+    }
+  }
+
+  /** A Bloom filter probed with double hashing (Kirsch and Mitzenmacher) of the fingerprint. */
+  private static final class BloomFilter implements Seen {
+    private final LongBuffer words;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(long expectedValues, double falsePositiveRate) {
+      final double ln2 = Math.log(2);
+      final long bits =
+          (long) Math.ceil(-expectedValues * Math.log(falsePositiveRate) / (ln2 * ln2));
+      final long wordCount = Math.max(1, (bits + 63) / 64);
+      this.words = allocate(wordCount);
+      this.bitCount = wordCount * 64;
+      this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedValues * ln2));
+    }
+
+    @Override
+    public boolean add(long fingerprint) {
+      final long step = mix64(fingerprint) | 1;
+      boolean added = false;
+      long hash = fingerprint;
+      for (int i = 0; i < hashCount; i++, hash += step) {
+        final long bit = Long.remainderUnsigned(hash, bitCount);
+        final int word = (int) (bit >>> 6);
+        final long value = words.get(word);
+        final long mask = 1L << bit;
+        if ((value & mask) == 0) {
+          words.put(word, value | mask);
+          added = true;
+        }
+      }
+      return added;
+    }
+
+    @Override
+    public void clear() {
+      for (int i = 0; i < words.capacity(); i++) {
+        words.put(i, 0);
+      }
+    }
+  }
+}
@@ -2,28 +2,39 @@ package org.thejavaguy.javafaker.idnumbers;
 
 import org.thejavaguy.javafaker.Faker;
 
+/**
+ * US social security numbers, {@code AAA-GG-SSSS}. The area number is never 000, 666 or in the
+ * 900s, the group number never 00 and the serial number never 0000.
+ */
 public class EnIdNumber {
-  private static final String[] invalidSSNPatterns = {
-    "0{3}-\\\\d{2}-\\\\d{4}",
-    "\\d{3}-0{2}-\\d{4}",
-    "\\d{3}-\\d{2}-0{4}",
-    "666-\\d{2}-\\d{4}",
-    "9\\d{2}-\\d{2}-\\d{4}"
-  };
+  /** 001 to 899, without 666. */
+  private static final int VALID_AREAS = 898;
 
+  /**
+   * Picks each part among its valid values, so every call gives a valid number straight away, with
+   * every valid number equally likely.
+   */
   public String getValidSsn(Faker f) {
-    String ssn = f.regexify("[0-8]\\d{2}-\\d{2}-\\d{4}");
-
-    boolean isValid = true;
-    for (String invalidSSNPattern : invalidSSNPatterns) {
-      if (ssn.matches(invalidSSNPattern)) {
-        isValid = false;
-        break;
-      }
+    int area = 1 + f.random().nextInt(VALID_AREAS);
+    if (area >= 666) {
+      area++;
     }
-    if (!isValid) {
-      ssn = getValidSsn(f);
+    final int group = 1 + f.random().nextInt(99);
+    final int serial = 1 + f.random().nextInt(9999);
+
+    final char[] ssn = new char[11];
+    putDigits(ssn, 0, 3, area);
+    ssn[3] = '-';
+    putDigits(ssn, 4, 2, group);
+    ssn[6] = '-';
+    putDigits(ssn, 7, 4, serial);
+    return new String(ssn);
+  }
+
+  private static void putDigits(char[] chars, int offset, int count, int value) {
+    for (int i = offset + count - 1; i >= offset; i--) {
+      chars[i] = (char) ('0' + value % 10);
+      value /= 10;
     }
-    return ssn;
   }
 }
@@ -1,9 +1,7 @@
 package org.thejavaguy.javafaker.idnumbers;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
 import org.thejavaguy.javafaker.Faker;
+import org.thejavaguy.javafaker.service.Checksums;
 
 /**
  * Implementation based on the definition at <a
@@ -12,96 +10,96 @@ import org.thejavaguy.javafaker.Faker;
  * href="https://en.wikipedia.org/wiki/Personal_identity_number_(Sweden)">...</a>
  */
 public class SvSEIdNumber {
-  private static final String[] validPatterns = {"######-####", "######+####"};
+  private static final char[] SEPARATORS = {'-', '+'};
 
+  private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+  /** Two digit years are leap years when divisible by 4, as 2000 was one. */
+  private static final int DAYS_IN_FOUR_YEARS = 366 + 3 * 365;
+
+  private static final int DAYS_IN_A_CENTURY = 25 * DAYS_IN_FOUR_YEARS;
+
+  /**
+   * Picks a date and a birth number, then computes the check digit, so every call gives a valid
+   * number straight away. Dates are uniform over every yyMMdd date there is.
+   */
   public String getValidSsn(Faker f) {
-    String candidate = "";
-    while (!validSwedishSsn(candidate)) {
-      String pattern = getPattern(f);
-      candidate = f.numerify(pattern);
+    final char[] ssn = new char[11];
+    int day = f.random().nextInt(DAYS_IN_A_CENTURY);
+    int year = day / DAYS_IN_FOUR_YEARS * 4;
+    day %= DAYS_IN_FOUR_YEARS;
+    while (day >= daysInYear(year)) {
+      day -= daysInYear(year);
+      year++;
     }
-
-    return candidate;
+    int month = 0;
+    while (day >= daysInMonth(year, month + 1)) {
+      day -= daysInMonth(year, month + 1);
+      month++;
+    }
+    putTwoDigits(ssn, 0, year);
+    putTwoDigits(ssn, 2, month + 1);
+    putTwoDigits(ssn, 4, day + 1);
+    ssn[6] = SEPARATORS[f.random().nextInt(2)];
+    f.random().fillDigits(ssn, 7, 3);
+    ssn[10] = (char) ('0' + calculateChecksum(ssn));
+    return new String(ssn);
   }
 
+  /**
+   * Draws random digits and, in the rare case that they make a valid number, replaces the check
+   * digit with one of the nine wrong ones.
+   */
   public String getInvalidSsn(Faker f) {
-    String candidate = "121212-1212"; // Seed with a valid number
-    while (validSwedishSsn(candidate)) {
-      String pattern = getPattern(f);
-      candidate = f.numerify(pattern);
+    final char[] ssn = new char[11];
+    f.random().fillDigits(ssn, 0, 6);
+    ssn[6] = SEPARATORS[f.random().nextInt(2)];
+    f.random().fillDigits(ssn, 7, 4);
+    if (validSwedishSsn(ssn)) {
+      final int wrongChecksum = (ssn[10] - '0' + 1 + f.random().nextInt(9)) % 10;
+      ssn[10] = (char) ('0' + wrongChecksum);
     }
-
-    return candidate;
-  }
-
-  private String getPattern(Faker faker) {
-    return validPatterns[faker.random().nextInt(2)];
+    return new String(ssn);
   }
 
   boolean validSwedishSsn(String ssn) {
-    if (ssn.length() != 11) {
-      return false;
-    }
+    return ssn.length() == 11 && validSwedishSsn(ssn.toCharArray());
+  }
 
-    try {
-      if (parseDate(ssn)) {
+  private boolean validSwedishSsn(char[] ssn) {
+    for (int i = 0; i < ssn.length; i++) {
+      if (i != 6 && (ssn[i] < '0' || ssn[i] > '9')) {
         return false;
       }
-    } catch (ParseException e) {
+    }
+    final int year = twoDigits(ssn, 0);
+    final int month = twoDigits(ssn, 2);
+    final int day = twoDigits(ssn, 4);
+    if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
       return false;
     }
-
-    int calculatedChecksum = calculateChecksum(ssn);
-    int checksum = Integer.parseInt(ssn.substring(10, 11));
-    return checksum == calculatedChecksum;
+    return ssn[10] - '0' == calculateChecksum(ssn);
   }
 
-  private boolean parseDate(String ssn) throws ParseException {
-    SimpleDateFormat sdf = new SimpleDateFormat("yyMMdd");
-    String dateString = ssn.substring(0, 6);
-    Date date = sdf.parse(dateString);
-
-    // want to check that the parsed date is equal to the supplied data, most of the attempts will
-    // fail
-    String reversed = sdf.format(date);
-    return !reversed.equals(dateString);
+  /** Luhn over the date and the birth number; the separator isn't a digit, so it's skipped. */
+  private static int calculateChecksum(char[] ssn) {
+    return Checksums.luhnCheckDigit(ssn, 0, 10);
   }
 
-  private int calculateChecksum(String number) {
-    String dateString = number.substring(0, 6);
-    String birthNumber = number.substring(7, 10);
-
-    String calculatedNumber = calculateDigits(dateString + birthNumber);
-    int sum = calculateDigitSum(calculatedNumber);
-
-    int lastDigit = (sum % 10);
-    int difference = 10 - lastDigit;
-
-    return (difference % 10);
+  private static int daysInYear(int year) {
+    return year % 4 == 0 ? 366 : 365;
   }
 
-  private String calculateDigits(String numbers) {
-    String calculatedNumbers = "";
-    for (int i = 0; i < 9; i++) {
-      int res;
-      int n = Integer.parseInt(numbers.substring(i, i + 1));
-      if (i % 2 == 0) {
-        res = n * 2;
-      } else {
-        res = n;
-      }
+  private static int daysInMonth(int year, int month) {
+    return month == 2 && year % 4 == 0 ? 29 : DAYS_IN_MONTH[month - 1];
+  }
 
-      calculatedNumbers += res;
-    }
-    return calculatedNumbers;
+  private static int twoDigits(char[] chars, int offset) {
+    return (chars[offset] - '0') * 10 + chars[offset + 1] - '0';
   }
 
-  private int calculateDigitSum(String numbers) {
-    int sum = 0;
-    for (int i = 0; i < numbers.length(); i++) {
-      int n = Integer.parseInt(numbers.substring(i, i + 1));
-      sum += n;
-    }
-    return sum;
+  private static void putTwoDigits(char[] chars, int offset, int value) {
+    chars[offset] = (char) ('0' + value / 10);
+    chars[offset + 1] = (char) ('0' + value % 10);
   }
 }
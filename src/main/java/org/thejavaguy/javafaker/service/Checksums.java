@@ -0,0 +1,83 @@
+package org.thejavaguy.javafaker.service;
+
+/**
+ * Check digit algorithms over chars, computed with int arithmetic as the chars are read, so
+ * generated numbers don't need to be turned into lists, big integers or other strings first.
+ */
+public final class Checksums {
+
+  private Checksums() {}
+
+  /**
+   * Computes the Luhn check digit to append to the digits in {@code chars[off, off + len)}. Chars
+   * that aren't digits, such as the dashes of a formatted card number, are skipped.
+   *
+   * @return the check digit, from 0 to 9
+   */
+  public static int luhnCheckDigit(char[] chars, int off, int len) {
+    int sum = 0;
+    // the rightmost digit is doubled, as the check digit will end up to its right
+    boolean doubled = true;
+    for (int i = off + len - 1; i >= off; i--) {
+      final char c = chars[i];
+      if (c < '0' || c > '9') {
+        continue;
+      }
+      int digit = c - '0';
+      if (doubled) {
+        digit *= 2;
+        if (digit > 9) {
+          digit -= 9;
+        }
+      }
+      sum += digit;
+      doubled = !doubled;
+    }
+    return (10 - sum % 10) % 10;
+  }
+
+  /**
+   * Carries an ISO 7064 MOD 97-10 remainder (as used by IBANs) over one more char: digits count as
+   * themselves, letters as 10 (A) to 35 (Z) regardless of case.
+   *
+   * @param remainder the remainder of the chars so far, 0 to start with
+   * @return the remainder including c
+   * @throws IllegalArgumentException if c is neither a digit nor a letter from A to Z
+   */
+  public static int mod97(int remainder, char c) {
+    if (c >= '0' && c <= '9') {
+      return (remainder * 10 + (c - '0')) % 97;
+    }
+    final int letter = (c | 0x20) - 'a';
+    if (letter < 0 || letter >= 26) {
+      throw new IllegalArgumentException("not an alphanumeric char: " + c);
+    }
+    return (remainder * 100 + letter + 10) % 97;
+  }
+
+  /**
+   * Carries an ISO 7064 MOD 97-10 remainder over {@code chars[off, off + len)}.
+   *
+   * @see #mod97(int, char)
+   */
+  public static int mod97(int remainder, char[] chars, int off, int len) {
+    for (int i = off; i < off + len; i++) {
+      remainder = mod97(remainder, chars[i]);
+    }
+    return remainder;
+  }
+
+  /**
+   * Computes the two check digits of an IBAN: the basic bank account number is followed by the
+   * country code and "00", and the check digits are 98 minus the remainder.
+   *
+   * @return the check digits, from 2 to 98
+   */
+  public static int ibanCheckDigits(String countryCode, char[] bban, int off, int len) {
+    int remainder = mod97(0, bban, off, len);
+    remainder = mod97(remainder, countryCode.charAt(0));
+    remainder = mod97(remainder, countryCode.charAt(1));
+    remainder = remainder * 100 % 97;
+    return 98 - remainder;
+  }
+}
@@ -0,0 +1,242 @@
+package org.thejavaguy.javafaker.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.thejavaguy.javafaker.Faker;
+
+/**
+ * Dispatch table of the #{ClassName.method_name} directives used by the bundled locale files,
+ * generated at build time so that {@link FakeValuesService} doesn't have to search the faker and
+ * its providers for methods matching a directive.
+ *
+ * <p>Running this class with an output directory scans every {@code .yml} file below it for such
+ * directives, matches each one to its {@link Faker} getter and provider method the way {@link
+ * FakeValuesService} would, and writes the exact methods to {@value #RESOURCE} in this package. The
+ * Maven build does that for {@code target/classes} in the {@code process-classes} phase, next to
+ * {@link FakeValuesSnapshot}.
+ *
+ * <p>When the table is loaded, every directive gets an ID, its position in the table, and a method
+ * handle calling the getter and then the provider method. Directives missing from the table, such
+ * as those of locale files supplied at runtime or those taking arguments, and every directive when
+ * the table hasn't been generated, are resolved by reflection instead.
+ */
+public final class DirectiveTable {
+
+  static final String RESOURCE = "directives.bin";
+
+  private static final int MAGIC = 0x464b4431; // "FKD1"
+  private static final int VERSION = 1;
+
+  private static final Pattern DIRECTIVE = Pattern.compile("#\\{([A-Za-z_]+\\.[A-Za-z_]+)}");
+
+  private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Faker.class);
+
+  private static final Logger LOG = Logger.getLogger("faker");
+
+  private static final Map<String, Integer> IDS = new HashMap<>();
+  private static final MethodHandle[] HANDLES = load();
+
+  private DirectiveTable() {}
+
+  /**
+   * @param directive a directive such as {@code Name.first_name}
+   * @return the ID of the directive, or -1 if it's not in the table
+   */
+  static int id(String directive) {
+    final Integer id = IDS.get(directive);
+    return id == null ? -1 : id;
+  }
+
+  /** Calls the getter and provider method of the directive with the given ID on the faker. */
+  static Object invoke(int id, Faker faker) throws Throwable {
+    return (Object) HANDLES[id].invokeExact(faker);
+  }
+
+  /**
+   * Generates the table for the locale files below the given directory.
+   *
+   * @param args the directory to scan, usually {@code target/classes}
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("usage: DirectiveTable <directory>");
+    }
+    final Path directory = Paths.get(args[0]);
+    final List<Path> files;
+    try (Stream<Path> paths = Files.walk(directory)) {
+      files =
+          paths
+              .filter(p -> p.getFileName().toString().endsWith(".yml"))
+              .collect(Collectors.toList());
+    }
+    final TreeSet<String> directives = new TreeSet<>();
+    for (Path yml : files) {
+      final Matcher matcher =
+          DIRECTIVE.matcher(new String(Files.readAllBytes(yml), StandardCharsets.UTF_8));
+      while (matcher.find()) {
+        directives.add(matcher.group(1));
+      }
+    }
+    final Path table =
+        directory
+            .resolve(DirectiveTable.class.getPackage().getName().replace('.', '/'))
+            .resolve(RESOURCE);
+    try (OutputStream out = Files.newOutputStream(table)) {
+      write(directives, out);
+    }
+  }
+
+  /** Writes the directives that can be bound to a getter and a provider method. */
+  static void write(Iterable<String> directives, OutputStream out) throws IOException {
+    final List<String[]> entries = new ArrayList<>();
+    for (String directive : directives) {
+      final String[] classAndMethod = directive.split("\\.", 2);
+      final Method getter = method(Faker.class, classAndMethod[0].replace("_", ""));
+      if (getter == null || getter.getReturnType().isPrimitive()) {
+        continue;
+      }
+      final Method provider = method(getter.getReturnType(), classAndMethod[1].replace("_", ""));
+      if (provider == null) {
+        continue;
+      }
+      entries.add(
+          new String[] {
+            directive,
+            getter.getDeclaringClass().getName(),
+            getter.getName(),
+            descriptor(getter),
+            provider.getDeclaringClass().getName(),
+            provider.getName(),
+            descriptor(provider)
+          });
+    }
+    final DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(entries.size());
+    for (String[] entry : entries) {
+      for (String field : entry) {
+        data.writeUTF(field);
+      }
+    }
+    data.flush();
+  }
+
+  /**
+   * Finds the public instance method without parameters whose name matches ignoring case, as
+   * {@link FakeValuesService} does.
+   *
+   * @return null if there's no such method, or more than one
+   */
+  private static Method method(Class<?> onClass, String name) {
+    Method found = null;
+    for (Method m : onClass.getMethods()) {
+      if (m.getName().equalsIgnoreCase(name)
+          && m.getParameterCount() == 0
+          && !m.isBridge()
+          && !Modifier.isStatic(m.getModifiers())) {
+        if (found != null) {
+          return null;
+        }
+        found = m;
+      }
+    }
+    return found;
+  }
+
+  private static String descriptor(Method method) {
+    return MethodType.methodType(method.getReturnType()).toMethodDescriptorString();
+  }
+
+  /**
+   * Loads the bundled table. A table that is missing or unreadable leaves every directive to
+   * reflection rather than failing, so it never breaks {@link FakeValuesService}.
+   */
+  private static MethodHandle[] load() {
+    try (InputStream in = DirectiveTable.class.getResourceAsStream(RESOURCE)) {
+      return in == null ? new MethodHandle[0] : read(in, IDS);
+    } catch (IOException | RuntimeException | LinkageError e) {
+      LOG.log(Level.FINE, "Can't read the directive table", e);
+      IDS.clear();
+      return new MethodHandle[0];
+    }
+  }
+
+  /**
+   * Reads a table, putting the ID of every directive that can still be bound into ids. Entries
+   * whose methods changed since the table was generated are skipped.
+   *
+   * @return the handles of the directives, by ID
+   */
+  static MethodHandle[] read(InputStream in, Map<String, Integer> ids) throws IOException {
+    final DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+      throw new IOException("Not a directive table or unsupported version");
+    }
+    final int count = data.readInt();
+    final List<MethodHandle> handles = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final String directive = data.readUTF();
+      final MethodHandle getter = handle(data.readUTF(), data.readUTF(), data.readUTF());
+      final MethodHandle provider = handle(data.readUTF(), data.readUTF(), data.readUTF());
+      final MethodHandle invoker = invoker(getter, provider);
+      if (invoker != null) {
+        ids.put(directive, handles.size());
+        handles.add(invoker);
+      }
+    }
+    return handles.toArray(new MethodHandle[0]);
+  }
+
+  /** @return null if either method is missing or their types no longer fit together */
+  private static MethodHandle invoker(MethodHandle getter, MethodHandle provider) {
+    if (getter == null || provider == null) {
+      return null;
+    }
+    try {
+      return MethodHandles.filterReturnValue(
+              getter,
+              provider.asType(provider.type().changeParameterType(0, getter.type().returnType())))
+          .asType(INVOKER_TYPE);
+    } catch (RuntimeException e) {
+      LOG.log(Level.FINE, "Can't bind " + getter + " to " + provider, e);
+      return null;
+    }
+  }
+
+  /** @return null if the method no longer exists as it did at build time */
+  private static MethodHandle handle(String className, String name, String descriptor) {
+    try {
+      final ClassLoader loader = DirectiveTable.class.getClassLoader();
+      final Class<?> onClass = Class.forName(className, false, loader);
+      return MethodHandles.publicLookup()
+          .findVirtual(onClass, name, MethodType.fromMethodDescriptorString(descriptor, loader));
+    } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+      LOG.log(Level.FINE, "Can't bind " + className + "." + name, e);
+      return null;
+    }
+  }
+}
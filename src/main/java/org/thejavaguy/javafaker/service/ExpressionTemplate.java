@@ -0,0 +1,123 @@
+package org.thejavaguy.javafaker.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An expression such as {@code "#{Name.first_name} #{Name.last_name}"} parsed into the literal text
+ * between its directives and the directives themselves. Templates are immutable and cached by
+ * their source string, so the expression patterns run once per distinct expression rather than
+ * once per resolution.
+ */
+final class ExpressionTemplate {
+
+  private static final Pattern EXPRESSION_PATTERN =
+      Pattern.compile("#\\{([a-z0-9A-Z_.]+)\\s?((?:,?'([^']+)')*)\\}");
+  private static final Pattern EXPRESSION_ARGUMENTS_PATTERN = Pattern.compile("(?:'(.*?)')");
+
+  /** Keeps the cache from growing without bound when arbitrary strings are resolved. */
+  private static final int MAX_CACHED_TEMPLATES = 10_000;
+
+  private static final ConcurrentMap<String, ExpressionTemplate> TEMPLATES =
+      new ConcurrentHashMap<>();
+
+  private final String[] literals;
+  private final Directive[] directives;
+
+  private ExpressionTemplate(String[] literals, Directive[] directives) {
+    this.literals = literals;
+    this.directives = directives;
+  }
+
+  /**
+   * @return the parsed form of the expression, from the cache when it has been parsed before
+   */
+  static ExpressionTemplate compile(String expression) {
+    ExpressionTemplate template = TEMPLATES.get(expression);
+    if (template == null) {
+      template = parse(expression);
+      if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+        TEMPLATES.putIfAbsent(expression, template);
+      }
+    }
+    return template;
+  }
+
+  private static ExpressionTemplate parse(String expression) {
+    final List<String> literals = new ArrayList<>();
+    final List<Directive> directives = new ArrayList<>();
+    final Matcher matcher = EXPRESSION_PATTERN.matcher(expression);
+    int literalStart = 0;
+    while (matcher.find()) {
+      final Matcher argsMatcher = EXPRESSION_ARGUMENTS_PATTERN.matcher(matcher.group(2));
+      final List<String> args = new ArrayList<>();
+      while (argsMatcher.find()) {
+        args.add(argsMatcher.group(1));
+      }
+      literals.add(expression.substring(literalStart, matcher.start()));
+      directives.add(
+          new Directive(matcher.group(0), matcher.group(1), Collections.unmodifiableList(args)));
+      literalStart = matcher.end();
+    }
+    literals.add(expression.substring(literalStart));
+    return new ExpressionTemplate(
+        literals.toArray(new String[0]), directives.toArray(new Directive[0]));
+  }
+
+  /**
+   * @return the number of directives; the template has one more literal than that
+   */
+  int directiveCount() {
+    return directives.length;
+  }
+
+  /**
+   * @return the text before the directive at the same index, or after the last directive
+   */
+  String literal(int index) {
+    return literals[index];
+  }
+
+  Directive directive(int index) {
+    return directives[index];
+  }
+
+  /** A single {@code #{name 'arg1','arg2'}} directive of a template. */
+  static final class Directive {
+    private final String escaped;
+    private final String name;
+    private final List<String> args;
+
+    private Directive(String escaped, String name, List<String> args) {
+      this.escaped = escaped;
+      this.name = name;
+      this.args = args;
+    }
+
+    /**
+     * @return the directive as written in the expression, e.g. {@code #{regexify '[a-z]'}}
+     */
+    String escaped() {
+      return escaped;
+    }
+
+    /**
+     * @return the name of the directive, e.g. {@code regexify} or {@code Name.first_name}
+     */
+    String name() {
+      return name;
+    }
+
+    /**
+     * @return the unquoted arguments of the directive, never null
+     */
+    List<String> args() {
+      return args;
+    }
+  }
+}
@@ -2,7 +2,9 @@ package org.thejavaguy.javafaker.service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -12,7 +14,7 @@ public class FakeValues implements FakeValuesInterface {
   private final Locale locale;
   private final String filename;
   private final String path;
-  private Map<?, ?> values;
+  private volatile Map<?, ?> values;
 
   FakeValues(Locale locale) {
     this(locale, getFilename(locale), getFilename(locale));
@@ -45,11 +47,19 @@ public class FakeValues implements FakeValuesInterface {
 
   @Override
   public Map<?, ?> get(String key) {
-    if (values == null) {
-      values = loadValues();
+    Map<?, ?> loaded = values;
+    if (loaded == null) {
+      synchronized (this) {
+        loaded = values;
+        if (loaded == null) {
+          loaded = loadValues();
+          // remember missing files as well so they aren't looked up again on every call
+          values = loaded = loaded == null ? Collections.emptyMap() : loaded;
+        }
+      }
     }
 
-    return values == null ? null : (Map<?, ?>) values.get(key);
+    return (Map<?, ?>) loaded.get(key);
   }
 
   private Map<?, ?> loadValues() {
@@ -58,37 +68,57 @@ public class FakeValues implements FakeValuesInterface {
     String pathWithLocale = "/" + locale.getLanguage() + ".yml";
 
     List<String> paths = Arrays.asList(pathWithLocaleAndFilename, pathWithFilename, pathWithLocale);
-    InputStream stream = null;
+    URL resource = null;
     for (String path : paths) {
-      stream = findStream(path);
-      if (stream != null) {
+      resource = findResource(path);
+      if (resource != null) {
         break;
       }
     }
 
-    if (stream == null) {
+    if (resource == null) {
       return null;
     }
 
-    final Map<?, ?> valuesMap = new Yaml().loadAs(stream, Map.class);
+    final Map<?, ?> valuesMap;
+    try {
+      valuesMap = load(resource);
+    } catch (IOException ex) {
+      return null;
+    }
     Map<?, ?> localeBased = (Map<?, ?>) valuesMap.get(locale.getLanguage());
     if (localeBased == null) {
       localeBased = (Map<?, ?>) valuesMap.get(filename);
     }
+    return (Map<?, ?>) localeBased.get("faker");
+  }
+
+  /**
+   * Reads the precompiled {@link FakeValuesSnapshot} sitting next to the YAML file if there is one,
+   * so the bundled files never go through SnakeYAML and their data is shared by every {@link
+   * FakeValues} in the JVM. User supplied files have no snapshot and are parsed as before.
+   */
+  private Map<?, ?> load(URL yml) throws IOException {
+    FakeValuesSnapshot snapshot = null;
     try {
-      stream.close();
+      snapshot = FakeValuesSnapshot.open(new URL(yml.toExternalForm() + FakeValuesSnapshot.SUFFIX));
     } catch (IOException ex) {
-      return null;
+      // no snapshot for this file, fall back to YAML
+    }
+    if (snapshot != null) {
+      return (Map<?, ?>) snapshot.root();
+    }
+    try (InputStream stream = yml.openStream()) {
+      return new Yaml().loadAs(stream, Map.class);
     }
-    return (Map<?, ?>) localeBased.get("faker");
   }
 
-  private InputStream findStream(String filename) {
-    InputStream streamOnClass = getClass().getResourceAsStream(filename);
-    if (streamOnClass != null) {
-      return streamOnClass;
+  private URL findResource(String filename) {
+    URL resourceOnClass = getClass().getResource(filename);
+    if (resourceOnClass != null) {
+      return resourceOnClass;
     }
-    return getClass().getClassLoader().getResourceAsStream(filename);
+    return getClass().getClassLoader().getResource(filename);
   }
 
   boolean supportsPath(String path) {
@@ -0,0 +1,69 @@
+package org.thejavaguy.javafaker.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The values of a locale chain (for example fr_FR, fr, en) together with a flattened index from
+ * full keys like {@code name.first_name} to the value the chain resolves them to.
+ *
+ * <p>A key is resolved the first time it's fetched by walking the nested maps of each locale in
+ * order, and the winning value (or the fact that there is none) is remembered, so later fetches
+ * are a single hash lookup with no splitting of the key. Weighted lists get their {@link
+ * WeightedList} alias table built at that point too. Up to {@value #MAX_CACHED_KEYS} keys are
+ * remembered, so fetching arbitrary keys can't grow the index without bound; keys past that are
+ * resolved on every fetch.
+ */
+final class FakeValuesChain {
+
+  private static final Object MISSING = new Object();
+
+  /** Keeps the index from growing without bound when arbitrary keys are fetched. */
+  private static final int MAX_CACHED_KEYS = 10_000;
+
+  private final List<FakeValuesInterface> fakeValuesList;
+  private final ConcurrentMap<String, Object> valuesByKey = new ConcurrentHashMap<>();
+
+  FakeValuesChain(List<FakeValuesInterface> fakeValuesList) {
+    this.fakeValuesList = fakeValuesList;
+  }
+
+  /**
+   * @return the value at the dot separated key in the first locale that has one, or null
+   */
+  Object fetch(String key) {
+    Object value = valuesByKey.get(key);
+    if (value == null) {
+      value = WeightedList.of(resolve(key));
+      if (valuesByKey.size() < MAX_CACHED_KEYS) {
+        valuesByKey.putIfAbsent(key, value == null ? MISSING : value);
+      }
+      return value;
+    }
+    return value == MISSING ? null : value;
+  }
+
+  private Object resolve(String key) {
+    String[] path = key.split("\\.");
+
+    Object result = null;
+    for (FakeValuesInterface fakeValuesInterface : fakeValuesList) {
+      Object currentValue = fakeValuesInterface;
+      for (int p = 0; currentValue != null && p < path.length; p++) {
+        String currentPath = path[p];
+        if (currentValue instanceof Map) {
+          currentValue = ((Map<?, ?>) currentValue).get(currentPath);
+        } else {
+          currentValue = ((FakeValuesInterface) currentValue).get(currentPath);
+        }
+      }
+      result = currentValue;
+      if (result != null) {
+        break;
+      }
+    }
+    return result;
+  }
+}
@@ -1,30 +1,59 @@
 package org.thejavaguy.javafaker.service;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Groups the values of several files of the same locale. Groupings are shared by every {@link
+ * FakeValuesService} using the locale, so reading from one never locks and never changes the
+ * values it was given.
+ */
 public class FakeValuesGrouping implements FakeValuesInterface {
 
-  private List<FakeValues> fakeValuesList = new ArrayList<>();
+  private final List<FakeValues> fakeValuesList = new CopyOnWriteArrayList<>();
+  private final ConcurrentMap<String, Optional<Map<?, ?>>> valuesByKey = new ConcurrentHashMap<>();
 
   public void add(FakeValues fakeValues) {
     fakeValuesList.add(fakeValues);
+    valuesByKey.clear();
   }
 
+  /**
+   * Returns the values of every file that supports the key, merged into a read-only map when
+   * there's more than one. The result is worked out once per key.
+   */
   @Override
   public Map<?, ?> get(String key) {
+    Optional<Map<?, ?>> values = valuesByKey.get(key);
+    if (values == null) {
+      values = Optional.ofNullable(merge(key));
+      valuesByKey.putIfAbsent(key, values);
+    }
+    return values.orElse(null);
+  }
+
+  private Map<?, ?> merge(String key) {
     Map<?, ?> result = null;
+    Map<Object, Object> merged = null;
     for (FakeValues fakeValues : fakeValuesList) {
       if (fakeValues.supportsPath(key)) {
-        if (result != null) {
-          final Map newResult = fakeValues.get(key);
-          result.putAll(newResult);
+        final Map<?, ?> newResult = fakeValues.get(key);
+        if (result == null) {
+          result = newResult;
         } else {
-          result = fakeValues.get(key);
+          if (merged == null) {
+            merged = new LinkedHashMap<>(result);
+          }
+          merged.putAll(newResult);
         }
       }
     }
-    return result;
+    return merged == null ? result : Collections.unmodifiableMap(merged);
   }
 }
@@ -1,20 +1,25 @@
 package org.thejavaguy.javafaker.service;
 
 import com.mifmif.common.regex.Generex;
+import dk.brics.automaton.Automaton;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.Strings;
 import org.thejavaguy.javafaker.Address;
 import org.thejavaguy.javafaker.Faker;
 import org.thejavaguy.javafaker.Name;
@@ -22,13 +27,58 @@ import org.thejavaguy.javafaker.service.files.EnFile;
 
 public class FakeValuesService {
 
-  private static final Pattern EXPRESSION_PATTERN =
-      Pattern.compile("#\\{([a-z0-9A-Z_.]+)\\s?((?:,?'([^']+)')*)\\}");
-  private static final Pattern EXPRESSION_ARGUMENTS_PATTERN = Pattern.compile("(?:'(.*?)')");
+  private static final ConcurrentMap<List<Locale>, FakeValuesChain> FAKE_VALUES_BY_LOCALE_CHAIN =
+      new ConcurrentHashMap<>();
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  /**
+   * Keeps the cache of a class from growing without bound when directives are used with ever
+   * changing arguments.
+   */
+  private static final int MAX_CACHED_ACCESSORS = 10_000;
+
+  private static final ClassValue<ConcurrentMap<AccessorKey, Optional<MethodAndCoercedArgs>>>
+      ACCESSORS =
+          new ClassValue<ConcurrentMap<AccessorKey, Optional<MethodAndCoercedArgs>>>() {
+            @Override
+            protected ConcurrentMap<AccessorKey, Optional<MethodAndCoercedArgs>> computeValue(
+                Class<?> type) {
+              return new ConcurrentHashMap<>();
+            }
+          };
+
+  /** Keeps each cache from growing without bound when arbitrary directives are resolved. */
+  private static final int MAX_CACHED_RESOLUTIONS = 10_000;
+
+  /**
+   * Resolutions by the class of the current object, then by the class of the root faker, so that
+   * they go away with those classes instead of keeping their class loaders alive.
+   */
+  private static final ClassValue<ClassValue<ConcurrentMap<ResolutionKey, Resolution>>>
+      RESOLUTIONS =
+          new ClassValue<ClassValue<ConcurrentMap<ResolutionKey, Resolution>>>() {
+            @Override
+            protected ClassValue<ConcurrentMap<ResolutionKey, Resolution>> computeValue(
+                Class<?> currentClass) {
+              return new ClassValue<ConcurrentMap<ResolutionKey, Resolution>>() {
+                @Override
+                protected ConcurrentMap<ResolutionKey, Resolution> computeValue(
+                    Class<?> rootClass) {
+                  return new ConcurrentHashMap<>();
+                }
+              };
+            }
+          };
+
+  /** Keeps the cache from growing without bound when arbitrary regular expressions are used. */
+  private static final int MAX_CACHED_REGEXES = 1_000;
+
+  private static final ConcurrentMap<String, CompiledRegex> REGEXES = new ConcurrentHashMap<>();
 
   private final Logger log = Logger.getLogger("faker");
 
-  private final List<FakeValuesInterface> fakeValuesList;
+  private final FakeValuesChain fakeValues;
   private final RandomService randomService;
 
   /**
@@ -53,7 +103,6 @@ public class FakeValuesService {
    * @param locale
    * @param randomService
    */
-  @SuppressWarnings({"unchecked", "rawtypes"})
   public FakeValuesService(Locale locale, RandomService randomService) {
     if (locale == null) {
       throw new IllegalArgumentException("locale is required");
@@ -61,8 +110,29 @@ public class FakeValuesService {
     this.randomService = randomService;
     locale = normalizeLocale(locale);
 
-    final List<Locale> locales = localeChain(locale);
-    final List<FakeValuesInterface> all = new ArrayList(locales.size());
+    this.fakeValues =
+        FAKE_VALUES_BY_LOCALE_CHAIN.computeIfAbsent(
+            localeChain(locale), FakeValuesService::loadFakeValues);
+  }
+
+  private FakeValuesService(FakeValuesChain fakeValues, RandomService randomService) {
+    this.fakeValues = fakeValues;
+    this.randomService = randomService;
+  }
+
+  /**
+   * @return a service for the same locale that draws from the given {@link RandomService}
+   */
+  public FakeValuesService withRandomService(RandomService randomService) {
+    return new FakeValuesService(fakeValues, randomService);
+  }
+
+  /**
+   * Creates the (lazily loaded) values for every locale in the chain. The result is shared by all
+   * the services using the same chain, so each locale file is read once per class loader.
+   */
+  private static FakeValuesChain loadFakeValues(List<Locale> locales) {
+    final List<FakeValuesInterface> all = new ArrayList<>(locales.size());
 
     for (final Locale l : locales) {
       boolean isEnglish = l.equals(Locale.ENGLISH);
@@ -77,7 +147,7 @@ public class FakeValuesService {
       }
     }
 
-    this.fakeValuesList = Collections.unmodifiableList(all);
+    return new FakeValuesChain(Collections.unmodifiableList(all));
   }
 
   /**
@@ -127,7 +197,22 @@ public class FakeValuesService {
    */
   public Object fetch(String key) {
     List<Object> valuesArray = (List) fetchObject(key);
-    return valuesArray == null ? null : valuesArray.get(randomService.nextInt(valuesArray.size()));
+    return valuesArray == null ? null : pick(valuesArray);
+  }
+
+  /** Picks from a weighted list by weight and from any other list uniformly. */
+  private <T> T pick(List<T> values) {
+    if (values instanceof WeightedList) {
+      @SuppressWarnings("unchecked")
+      final T value = (T) ((WeightedList) values).pick(randomService);
+      return value;
+    }
+    return values.get(randomService.nextInt(values.size()));
+  }
+
+  /** @return whether the key holds a weighted list, whose values are picked by weight */
+  public boolean isWeightedList(String key) {
+    return fetchObject(key) instanceof WeightedList;
   }
 
   /**
@@ -145,7 +230,8 @@ public class FakeValuesService {
    *
    * <p>If the value is null, it will return an empty string.
    *
-   * <p>If it is a list, it will assume it is a list of strings and select a random value from it.
+   * <p>If it is a list, it will assume it is a list of strings and select a random value from it,
+   * by weight if it's a weighted list.
    *
    * <p>If the retrieved value is an slash encoded regular expression such as {@code /[a-b]/} then
    * the regex will be converted to a regexify expression and returned (ex. {@code #regexify
@@ -166,7 +252,7 @@ public class FakeValuesService {
       if (values.isEmpty()) {
         return defaultIfNull;
       }
-      return values.get(randomService.nextInt(values.size()));
+      return pick(values);
     } else if (isSlashDelimitedRegex(o.toString())) {
       return String.format("#{regexify '%s'}", trimRegexSlashes(o.toString()));
     } else {
@@ -182,25 +268,7 @@ public class FakeValuesService {
    * @return
    */
   public Object fetchObject(String key) {
-    String[] path = key.split("\\.");
-
-    Object result = null;
-    for (FakeValuesInterface fakeValuesInterface : fakeValuesList) {
-      Object currentValue = fakeValuesInterface;
-      for (int p = 0; currentValue != null && p < path.length; p++) {
-        String currentPath = path[p];
-        if (currentValue instanceof Map) {
-          currentValue = ((Map<?, ?>) currentValue).get(currentPath);
-        } else {
-          currentValue = ((FakeValuesInterface) currentValue).get(currentPath);
-        }
-      }
-      result = currentValue;
-      if (result != null) {
-        break;
-      }
-    }
-    return result;
+    return fakeValues.fetch(key);
   }
 
   /**
@@ -213,16 +281,17 @@ public class FakeValuesService {
    * @return
    */
   public String numerify(String numberString) {
-    StringBuilder sb = new StringBuilder();
-    for (int i = 0; i < numberString.length(); i++) {
-      if (numberString.charAt(i) == '#') {
-        sb.append(randomService.nextInt(10));
-      } else {
-        sb.append(numberString.charAt(i));
-      }
-    }
+    return PlaceholderMask.digits(numberString).generate(randomService, false);
+  }
 
-    return sb.toString();
+  /**
+   * Like {@link #numerify(String)}, but appends the result to out. A {@link StringBuilder} or a
+   * {@link java.nio.CharBuffer} gets it in one copy, without an intermediate String.
+   *
+   * @return out
+   */
+  public <A extends Appendable> A numerify(String numberString, A out) {
+    return PlaceholderMask.digits(numberString).appendTo(out, randomService, false);
   }
 
   /**
@@ -233,7 +302,7 @@ public class FakeValuesService {
    * @return
    */
   public String bothify(String string) {
-    return letterify(numerify(string));
+    return bothify(string, false);
   }
 
   /**
@@ -245,14 +314,34 @@ public class FakeValuesService {
    * @return
    */
   public String bothify(String string, boolean isUpper) {
-    return letterify(numerify(string), isUpper);
+    return PlaceholderMask.digitsAndLetters(string).generate(randomService, isUpper);
   }
 
-  /** Generates a String that matches the given regular expression. */
+  /**
+   * Like {@link #bothify(String, boolean)}, but appends the result to out.
+   *
+   * @return out
+   */
+  public <A extends Appendable> A bothify(String string, boolean isUpper, A out) {
+    return PlaceholderMask.digitsAndLetters(string).appendTo(out, randomService, isUpper);
+  }
+
+  /**
+   * Generates a String that matches the given regular expression. The regular expression is only
+   * compiled the first time it's used, each call draws from the {@link RandomService}.
+   */
   public String regexify(String regex) {
-    Generex generex = new Generex(regex);
-    generex.setSeed(randomService.nextLong());
-    return generex.random();
+    CompiledRegex compiled = REGEXES.get(regex);
+    if (compiled == null) {
+      compiled = new CompiledRegex(regex);
+      if (REGEXES.size() < MAX_CACHED_REGEXES) {
+        final CompiledRegex existing = REGEXES.putIfAbsent(regex, compiled);
+        if (existing != null) {
+          compiled = existing;
+        }
+      }
+    }
+    return compiled.generate(randomService);
   }
 
   /**
@@ -279,20 +368,16 @@ public class FakeValuesService {
    * @return
    */
   public String letterify(String letterString, boolean isUpper) {
-    return letterHelper((isUpper) ? 65 : 97, letterString); // from ascii table
+    return PlaceholderMask.letters(letterString).generate(randomService, isUpper);
   }
 
-  private String letterHelper(int baseChar, String letterString) {
-    StringBuilder sb = new StringBuilder();
-    for (int i = 0; i < letterString.length(); i++) {
-      if (letterString.charAt(i) == '?') {
-        sb.append((char) (baseChar + randomService.nextInt(26))); // a-z
-      } else {
-        sb.append(letterString.charAt(i));
-      }
-    }
-
-    return sb.toString();
+  /**
+   * Like {@link #letterify(String, boolean)}, but appends the result to out.
+   *
+   * @return out
+   */
+  public <A extends Appendable> A letterify(String letterString, boolean isUpper, A out) {
+    return PlaceholderMask.letters(letterString).appendTo(out, randomService, isUpper);
   }
 
   /**
@@ -323,6 +408,14 @@ public class FakeValuesService {
     return resolveExpression(expression, null, faker);
   }
 
+  /**
+   * resolves an expression the way {@link #resolve(String, Object, Faker)} resolves a fetched one,
+   * with current as the 'current' location within the yml file.
+   */
+  public String expression(String expression, Object current, Faker faker) {
+    return resolveExpression(expression, current, faker);
+  }
+
   /**
    * processes a expression in the style #{X.y} using the current objects as the 'current' location
    * within the yml file (or the {@link Faker} object hierarchy as it were).
@@ -338,29 +431,36 @@ public class FakeValuesService {
    * resolves to {@link Faker#address()}'s {@link Address#streetName()}.
    */
   protected String resolveExpression(String expression, Object current, Faker root) {
-    final Matcher matcher = EXPRESSION_PATTERN.matcher(expression);
-
-    String result = expression;
-    while (matcher.find()) {
-      final String escapedDirective = matcher.group(0);
-      final String directive = matcher.group(1);
-      final String arguments = matcher.group(2);
-      final Matcher argsMatcher = EXPRESSION_ARGUMENTS_PATTERN.matcher(arguments);
-      List<String> args = new ArrayList<>();
-      while (argsMatcher.find()) {
-        args.add(argsMatcher.group(1));
-      }
+    if (!expression.contains("#{")) {
+      return expression;
+    }
+    final StringBuilder result = new StringBuilder(expression.length() + 16);
+    appendExpression(expression, current, root, result);
+    return result.toString();
+  }
+
+  /**
+   * Resolves the expression into the given builder, using its {@link ExpressionTemplate} so the
+   * expression is only parsed the first time it's seen.
+   */
+  private void appendExpression(
+      String expression, Object current, Faker root, StringBuilder result) {
+    final ExpressionTemplate template = ExpressionTemplate.compile(expression);
+    final int directives = template.directiveCount();
+    for (int i = 0; i < directives; i++) {
+      result.append(template.literal(i));
+      final ExpressionTemplate.Directive directive = template.directive(i);
 
       // resolve the expression and reprocess it to handle recursive templates
-      String resolved = resolveExpression(directive, args, current, root);
+      final String resolved = resolveExpression(directive.name(), directive.args(), current, root);
       if (resolved == null) {
-        throw new RuntimeException("Unable to resolve " + escapedDirective + " directive.");
+        throw new RuntimeException("Unable to resolve " + directive.escaped() + " directive.");
       }
 
-      resolved = resolveExpression(resolved, current, root);
-      result = Strings.CS.replaceOnce(result, escapedDirective, resolved);
+      // through the overridable method, so subclasses see nested expressions too
+      result.append(resolveExpression(resolved, current, root));
     }
-    return result;
+    result.append(template.literal(directives));
   }
 
   /**
@@ -375,39 +475,112 @@ public class FakeValuesService {
    *   <li>Search for keys in yaml file by transforming object reference to yaml reference
    * </ul>
    *
+   * Steps that can never succeed for a directive (there's no such method or key) are left out of
+   * its {@link Resolution}, so only the steps that might produce a value are tried.
+   *
    * @return null if unable to resolve
    */
   private String resolveExpression(
       String directive, List<String> args, Object current, Faker root) {
+    final Resolution resolution = resolution(directive, args, current, root);
+
+    String resolved = null;
+    for (int i = 0; resolved == null && i < resolution.steps.length; i++) {
+      switch (resolution.steps[i]) {
+        case CURRENT_METHOD:
+          resolved = resolveFromMethodOn(current, directive, args);
+          break;
+        case YAML_KEY:
+          resolved = safeFetch(resolution.simpleDirective, null);
+          break;
+        case ROOT_METHOD:
+          resolved = resolveFromMethodOn(root, directive, args);
+          break;
+        case FAKER_OBJECT_METHOD:
+          resolved =
+              resolution.directiveId >= 0
+                  ? resolveFromDirectiveTable(root, resolution.directiveId, directive)
+                  : resolveFakerObjectAndMethod(root, directive, args);
+          break;
+        case YAML_KEY_FROM_JAVA_NAME:
+          resolved = safeFetch(resolution.yamlDirective, null);
+          break;
+        default:
+          throw new IllegalStateException("Unknown resolution step " + resolution.steps[i]);
+      }
+    }
+
+    return resolved;
+  }
+
+  /**
+   * Returns the steps worth trying for the directive. Which steps can succeed only depends on the
+   * classes involved and on the locale data, so the result is cached for those.
+   */
+  private Resolution resolution(String directive, List<String> args, Object current, Faker root) {
+    final ConcurrentMap<ResolutionKey, Resolution> resolutions =
+        RESOLUTIONS.get(classOf(current)).get(classOf(root));
+    final ResolutionKey key = new ResolutionKey(fakeValues, directive, args);
+    Resolution resolution = resolutions.get(key);
+    if (resolution == null) {
+      resolution = planResolution(directive, args, current, root);
+      if (resolutions.size() < MAX_CACHED_RESOLUTIONS) {
+        resolutions.putIfAbsent(key, resolution);
+      }
+    }
+    return resolution;
+  }
+
+  /** @return the class of the object, or {@code Void} for null */
+  private static Class<?> classOf(Object object) {
+    return object == null ? Void.class : object.getClass();
+  }
+
+  private Resolution planResolution(
+      String directive, List<String> args, Object current, Faker root) {
     // name.name (resolve locally)
     // Name.first_name (resolve to faker.name().firstName())
     final String simpleDirective =
         (isDotDirective(directive) || current == null)
             ? directive
             : classNameToYamlName(current) + "." + directive;
+    final String yamlDirective =
+        isDotDirective(directive) ? javaNameToYamlName(simpleDirective) : null;
 
-    String resolved = null;
+    final List<ResolutionStep> steps = new ArrayList<>(ResolutionStep.values().length);
     // resolve method references on CURRENT object like #{number_between '1','10'} on Number or
     // #{ssn_valid} on IdNumber
-    if (!isDotDirective(directive)) {
-      resolved = resolveFromMethodOn(current, directive, args);
+    if (!isDotDirective(directive)
+        && current != null
+        && accessor(current, directive, args) != null) {
+      steps.add(ResolutionStep.CURRENT_METHOD);
     }
 
     // simple fetch of a value from the yaml file. the directive may have been mutated
     // such that if the current yml object is car: and directive is #{wheel} then
     // car.wheel will be looked up in the YAML file.
-    if (resolved == null) {
-      resolved = safeFetch(simpleDirective, null);
+    if (fetchObject(simpleDirective) != null) {
+      steps.add(ResolutionStep.YAML_KEY);
     }
 
     // resolve method references on faker object like #{regexify '[a-z]'}
-    if (resolved == null && !isDotDirective(directive)) {
-      resolved = resolveFromMethodOn(root, directive, args);
+    if (!isDotDirective(directive) && root != null && accessor(root, directive, args) != null) {
+      steps.add(ResolutionStep.ROOT_METHOD);
     }
 
-    // Resolve Faker Object method references like #{ClassName.method_name}
-    if (resolved == null && isDotDirective(directive)) {
-      resolved = resolveFakerObjectAndMethod(root, directive, args);
+    // Resolve Faker Object method references like #{ClassName.method_name}, through the table
+    // generated at build time for the directives of the bundled locale files
+    int directiveId = -1;
+    if (isDotDirective(directive) && root != null) {
+      directiveId = args.isEmpty() ? DirectiveTable.id(directive) : -1;
+      if (directiveId >= 0
+          || accessor(
+                  root,
+                  directive.split("\\.", 2)[0].replaceAll("_", ""),
+                  Collections.<String>emptyList())
+              != null) {
+        steps.add(ResolutionStep.FAKER_OBJECT_METHOD);
+      }
     }
 
     // last ditch effort.  Due to Ruby's dynamic nature, something like 'Address.street_title' will
@@ -419,11 +592,12 @@ public class FakeValuesService {
     // did first but FIRST we change the Object reference Class.method_name with a yml style
     // internal refernce ->
     // class.method_name (lowercase)
-    if (resolved == null && isDotDirective(directive)) {
-      resolved = safeFetch(javaNameToYamlName(simpleDirective), null);
+    if (isDotDirective(directive) && fetchObject(yamlDirective) != null) {
+      steps.add(ResolutionStep.YAML_KEY_FROM_JAVA_NAME);
     }
 
-    return resolved;
+    return new Resolution(
+        steps.toArray(new ResolutionStep[0]), simpleDirective, yamlDirective, directiveId);
   }
 
   /**
@@ -483,11 +657,26 @@ public class FakeValuesService {
     }
   }
 
+  /**
+   * Calls the getter and provider method bound to a directive at build time by {@link
+   * DirectiveTable}.
+   *
+   * @return null if there's a problem invoking the methods
+   */
+  private String resolveFromDirectiveTable(Faker faker, int directiveId, String directive) {
+    try {
+      return string(DirectiveTable.invoke(directiveId, faker));
+    } catch (Throwable t) {
+      log.log(Level.FINE, "Can't resolve " + directive, t);
+      return null;
+    }
+  }
+
   /**
    * Accepts a {@link Faker} instance and a name.firstName style 'key' which is resolved to the
    * return value of: {@link Faker#name()}'s {@link Name#firstName()} method.
    *
-   * @throws RuntimeException if there's a problem invoking the method or it doesn't exist.
+   * @return null if there's a problem invoking the method or it doesn't exist.
    */
   private String resolveFakerObjectAndMethod(Faker faker, String key, List<String> args) {
     final String[] classAndMethod = key.split("\\.", 2);
@@ -503,7 +692,7 @@ public class FakeValuesService {
       Object objectWithMethodToInvoke = fakerAccessor.invoke(faker);
       String nestedMethodName = classAndMethod[1].replaceAll("_", "");
       final MethodAndCoercedArgs accessor =
-          accessor(objectWithMethodToInvoke, classAndMethod[1].replaceAll("_", ""), args);
+          accessor(objectWithMethodToInvoke, nestedMethodName, args);
       if (accessor == null) {
         throw new Exception(
             "Can't find method on "
@@ -520,28 +709,46 @@ public class FakeValuesService {
     }
   }
 
-  /** Find an accessor by name ignoring case. */
+  /**
+   * Find an accessor by name ignoring case. Lookups, including failed ones, only depend on the
+   * class of the object and are cached per class, so a directive is only searched for and its
+   * arguments only coerced the first time it's used. Up to {@value #MAX_CACHED_ACCESSORS} name and
+   * argument combinations are cached per class; beyond that they are looked up on every use.
+   */
   private MethodAndCoercedArgs accessor(Object onObject, String name, List<String> args) {
+    final ConcurrentMap<AccessorKey, Optional<MethodAndCoercedArgs>> accessors =
+        ACCESSORS.get(onObject.getClass());
+    final AccessorKey key = new AccessorKey(name, args);
+    Optional<MethodAndCoercedArgs> accessor = accessors.get(key);
+    if (accessor == null) {
+      accessor = Optional.ofNullable(findAccessor(onObject.getClass(), name, args));
+      if (accessors.size() < MAX_CACHED_ACCESSORS) {
+        accessors.putIfAbsent(key, accessor);
+      }
+    }
+    return accessor.orElse(null);
+  }
+
+  private MethodAndCoercedArgs findAccessor(Class<?> onClass, String name, List<String> args) {
     log.log(
         Level.FINE,
-        "Find accessor named "
-            + name
-            + " on "
-            + onObject.getClass().getSimpleName()
-            + " with args "
-            + args);
-
-    for (Method m : onObject.getClass().getMethods()) {
+        "Find accessor named " + name + " on " + onClass.getSimpleName() + " with args " + args);
+
+    for (Method m : onClass.getMethods()) {
       if (m.getName().equalsIgnoreCase(name) && m.getParameterTypes().length == args.size()) {
         final List<Object> coercedArguments = coerceArguments(m, args);
         if (coercedArguments != null) {
-          return new MethodAndCoercedArgs(m, coercedArguments);
+          try {
+            return new MethodAndCoercedArgs(m, coercedArguments);
+          } catch (IllegalAccessException e) {
+            log.log(Level.FINE, "Can't access " + m, e);
+          }
         }
       }
     }
 
     if (name.contains("_")) {
-      return accessor(onObject, name.replaceAll("_", ""), args);
+      return findAccessor(onClass, name.replaceAll("_", ""), args);
     }
     return null;
   }
@@ -587,24 +794,194 @@ public class FakeValuesService {
     return (obj == null) ? null : obj.toString();
   }
 
+  /**
+   * A regular expression ready to generate strings: simple ones are filled in directly by a {@link
+   * SimpleRegexGenerator}, everything else goes through Generex.
+   */
+  private static final class CompiledRegex {
+    private static final Field AUTOMATON = automatonField();
+
+    private final SimpleRegexGenerator simple;
+    private final ThreadLocal<Generex> generex;
+
+    private CompiledRegex(String regex) {
+      this.simple = SimpleRegexGenerator.compile(regex);
+      this.generex = simple == null ? generexPerThread(regex) : null;
+    }
+
+    private String generate(RandomService randomService) {
+      if (simple != null) {
+        return simple.generate(randomService);
+      }
+      // a generex draws from the random it was last seeded with, so every thread has its own
+      final Generex generex = this.generex.get();
+      generex.setSeed(randomService.nextLong());
+      return generex.random();
+    }
+
+    /**
+     * Compiles the regex into an automaton once and gives each thread its own Generex over it.
+     * Generex doesn't expose its automaton, so it's read from a compiled Generex; should that fail,
+     * every thread compiles the regex itself.
+     */
+    private static ThreadLocal<Generex> generexPerThread(String regex) {
+      final Generex compiled = new Generex(regex);
+      final Automaton automaton = automatonOf(compiled);
+      if (automaton == null) {
+        return ThreadLocal.withInitial(() -> new Generex(regex));
+      }
+      // the automaton is only read while generating, once a singleton automaton has been expanded
+      automaton.expandSingleton();
+      return ThreadLocal.withInitial(() -> new Generex(automaton));
+    }
+
+    private static Automaton automatonOf(Generex generex) {
+      if (AUTOMATON == null) {
+        return null;
+      }
+      try {
+        return (Automaton) AUTOMATON.get(generex);
+      } catch (IllegalAccessException | ClassCastException e) {
+        return null;
+      }
+    }
+
+    private static Field automatonField() {
+      try {
+        final Field field = Generex.class.getDeclaredField("automaton");
+        field.setAccessible(true);
+        return field;
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        return null;
+      }
+    }
+  }
+
+  /** The places a directive can be resolved from, in search order. */
+  private enum ResolutionStep {
+    CURRENT_METHOD,
+    YAML_KEY,
+    ROOT_METHOD,
+    FAKER_OBJECT_METHOD,
+    YAML_KEY_FROM_JAVA_NAME
+  }
+
+  /**
+   * The steps that can resolve a directive, along with the YAML keys they look up and the ID of
+   * the directive in the {@link DirectiveTable}, or -1.
+   */
+  private static final class Resolution {
+    private final ResolutionStep[] steps;
+    private final String simpleDirective;
+    private final String yamlDirective;
+    private final int directiveId;
+
+    private Resolution(
+        ResolutionStep[] steps, String simpleDirective, String yamlDirective, int directiveId) {
+      this.steps = steps;
+      this.simpleDirective = simpleDirective;
+      this.yamlDirective = yamlDirective;
+      this.directiveId = directiveId;
+    }
+  }
+
+  /**
+   * Everything besides the classes of the current object and the root faker that decides which
+   * {@link ResolutionStep}s can succeed for a directive.
+   */
+  private static final class ResolutionKey {
+    private final FakeValuesChain fakeValues;
+    private final String directive;
+    private final List<String> args;
+
+    private ResolutionKey(FakeValuesChain fakeValues, String directive, List<String> args) {
+      this.fakeValues = fakeValues;
+      this.directive = directive;
+      this.args = args;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ResolutionKey)) {
+        return false;
+      }
+      final ResolutionKey other = (ResolutionKey) o;
+      return fakeValues == other.fakeValues
+          && directive.equals(other.directive)
+          && args.equals(other.args);
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = System.identityHashCode(fakeValues);
+      hash = 31 * hash + directive.hashCode();
+      return 31 * hash + args.hashCode();
+    }
+  }
+
+  /** The name and arguments of a directive, used to cache its accessor on a class. */
+  private static final class AccessorKey {
+    private final String name;
+    private final List<String> args;
+
+    private AccessorKey(String name, List<String> args) {
+      this.name = name;
+      this.args = args;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof AccessorKey)) {
+        return false;
+      }
+      final AccessorKey other = (AccessorKey) o;
+      return name.equals(other.name) && args.equals(other.args);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * name.hashCode() + args.hashCode();
+    }
+  }
+
   /**
    * simple wrapper class around an accessor and a list of coerced arguments. this is useful as we
    * get to find the method and coerce the arguments in one shot, returning both when successful.
-   * This saves us from doing it more than once (coercing args).
+   * This saves us from doing it more than once (coercing args). The coerced arguments are bound
+   * into a {@link MethodHandle} so that invoking it only needs the target object.
    */
   private static class MethodAndCoercedArgs {
 
-    private final Method method;
+    private static final MethodType INVOKER_TYPE =
+        MethodType.methodType(Object.class, Object.class);
 
-    private final List<Object> coerced;
+    private final MethodHandle handle;
 
-    private MethodAndCoercedArgs(Method m, List<Object> coerced) {
-      this.method = requireNonNull(m, "method cannot be null");
-      this.coerced = requireNonNull(coerced, "coerced arguments cannot be null");
+    private MethodAndCoercedArgs(Method m, List<Object> coerced) throws IllegalAccessException {
+      requireNonNull(m, "method cannot be null");
+      requireNonNull(coerced, "coerced arguments cannot be null");
+      MethodHandle handle = LOOKUP.unreflect(m);
+      if (Modifier.isStatic(m.getModifiers())) {
+        handle = MethodHandles.insertArguments(handle, 0, coerced.toArray());
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      } else {
+        handle = MethodHandles.insertArguments(handle, 1, coerced.toArray());
+      }
+      this.handle = handle.asType(INVOKER_TYPE);
     }
 
-    private Object invoke(Object on) throws InvocationTargetException, IllegalAccessException {
-      return method.invoke(on, coerced.toArray());
+    private Object invoke(Object on) throws InvocationTargetException {
+      try {
+        return (Object) handle.invokeExact(on);
+      } catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
     }
 
     /** source level precludes me from using Objects.requireNonNull */
@@ -0,0 +1,392 @@
+package org.thejavaguy.javafaker.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Compact binary form of a locale YAML file, produced at build time so that {@link FakeValues}
+ * doesn't have to run SnakeYAML over the bundled files.
+ *
+ * <p>A snapshot is an interned string table followed by a node section. Every distinct string is
+ * stored once and referenced by index; maps and lists store the offsets of their children, so a
+ * node can be read without scanning the ones before it:
+ *
+ * <pre>
+ * int    magic, version
+ * int    string count (n), int[n + 1] string offsets, byte[] UTF-8 string data
+ * int    root node offset
+ * byte[] nodes
+ * </pre>
+ *
+ * <p>Snapshots are read in place: strings are only decoded when they're first used and the bytes
+ * themselves stay in the (memory-mapped when possible) buffer, so the heap cost of locale data
+ * doesn't grow with the number of {@link FakeValues} instances reading it.
+ *
+ * <p>The snapshot of {@code /en/address.yml} lives next to it as {@code /en/address.yml.bin}.
+ * Running this class with an output directory compiles every {@code .yml} file below it; the Maven
+ * build does that for {@code target/classes} in the {@code process-classes} phase.
+ */
+public final class FakeValuesSnapshot {
+
+  static final String SUFFIX = ".bin";
+
+  static final int MAGIC = 0x464b5331; // "FKS1"
+  static final int VERSION = 1;
+
+  static final byte NULL = 0;
+  static final byte TRUE = 1;
+  static final byte FALSE = 2;
+  static final byte INT = 3;
+  static final byte LONG = 4;
+  static final byte DOUBLE = 5;
+  static final byte STRING = 6;
+  static final byte LIST = 7;
+  static final byte STRING_LIST = 8;
+  static final byte MAP = 9;
+
+  private static final ConcurrentMap<String, FakeValuesSnapshot> OPEN = new ConcurrentHashMap<>();
+
+  private final ByteBuffer buffer;
+  private final int stringsStart;
+  private final int dataStart;
+  private final int nodesStart;
+  private final String[] strings;
+  private final Object root;
+
+  private FakeValuesSnapshot(ByteBuffer buffer) throws IOException {
+    this.buffer = buffer;
+    if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+      throw new IOException("Not a faker snapshot or unsupported version");
+    }
+    this.strings = new String[buffer.getInt(8)];
+    this.stringsStart = 12;
+    this.dataStart = stringsStart + (strings.length + 1) * 4;
+    this.nodesStart = dataStart + buffer.getInt(stringsStart + strings.length * 4) + 4;
+    this.root = node(buffer.getInt(nodesStart - 4));
+  }
+
+  /**
+   * Compiles every {@code .yml} file below the given directory into a sibling snapshot.
+   *
+   * @param args the directory to scan, usually {@code target/classes}
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("usage: FakeValuesSnapshot <directory>");
+    }
+    final List<Path> files;
+    try (Stream<Path> paths = Files.walk(Paths.get(args[0]))) {
+      files =
+          paths
+              .filter(p -> p.getFileName().toString().endsWith(".yml"))
+              .collect(Collectors.toList());
+    }
+    for (Path yml : files) {
+      final Object values;
+      try (InputStream in = Files.newInputStream(yml)) {
+        values = new Yaml().load(in);
+      }
+      try (OutputStream out =
+          Files.newOutputStream(yml.resolveSibling(yml.getFileName() + SUFFIX))) {
+        write(values, out);
+      }
+    }
+  }
+
+  /**
+   * Writes the given YAML tree (maps, lists, strings, numbers and booleans) as a snapshot.
+   *
+   * @throws IllegalArgumentException if the tree contains a value that can't be represented
+   */
+  static void write(Object root, OutputStream out) throws IOException {
+    final Writer writer = new Writer();
+    final int rootOffset = writer.node(root);
+
+    final DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(writer.strings.size());
+    final List<byte[]> encoded = new ArrayList<>(writer.strings.size());
+    int offset = 0;
+    for (String s : writer.strings.keySet()) {
+      final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      encoded.add(bytes);
+      data.writeInt(offset);
+      offset += bytes.length;
+    }
+    data.writeInt(offset);
+    for (byte[] bytes : encoded) {
+      data.write(bytes);
+    }
+    data.writeInt(rootOffset);
+    writer.nodeBytes.writeTo(data);
+    data.flush();
+  }
+
+  /**
+   * Returns the snapshot at the given location, mapping it into memory on first use. Every {@link
+   * FakeValues} in the JVM that reads the same location shares the returned instance, and snapshots
+   * on the file system are mapped read-only so that JVMs started from the same classpath share the
+   * same pages.
+   *
+   * @throws IOException if there is no snapshot at that location or it can't be read
+   */
+  static FakeValuesSnapshot open(URL location) throws IOException {
+    final String key = location.toExternalForm();
+    FakeValuesSnapshot snapshot = OPEN.get(key);
+    if (snapshot == null) {
+      snapshot = new FakeValuesSnapshot(buffer(location));
+      final FakeValuesSnapshot existing = OPEN.putIfAbsent(key, snapshot);
+      if (existing != null) {
+        snapshot = existing;
+      }
+    }
+    return snapshot;
+  }
+
+  /** Reads a snapshot from a stream, mostly useful for tests. */
+  static Object read(InputStream in) throws IOException {
+    return new FakeValuesSnapshot(ByteBuffer.wrap(in.readAllBytes())).root();
+  }
+
+  private static ByteBuffer buffer(URL location) throws IOException {
+    if ("file".equals(location.getProtocol())) {
+      final Path path;
+      try {
+        path = Paths.get(location.toURI());
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        throw new IOException("Can't map " + location, e);
+      }
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+    }
+    try (InputStream in = location.openStream()) {
+      return ByteBuffer.wrap(in.readAllBytes());
+    }
+  }
+
+  /**
+   * The root of the snapshot. Maps and lists are read-only views that decode their contents from
+   * the buffer on first access; equal strings are decoded once and shared.
+   */
+  Object root() {
+    return root;
+  }
+
+  private static final class Writer {
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final ByteArrayOutputStream nodeBytes = new ByteArrayOutputStream();
+    private final DataOutputStream nodes = new DataOutputStream(nodeBytes);
+
+    /** Writes children before their parent so that the parent can refer to their offsets. */
+    private int node(Object value) throws IOException {
+      if (value instanceof Map) {
+        final Map<?, ?> map = (Map<?, ?>) value;
+        final int[] children = new int[map.size() * 2];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+          children[i++] = node(entry.getKey());
+          children[i++] = node(entry.getValue());
+        }
+        return container(MAP, map.size(), children);
+      }
+      if (value instanceof List) {
+        final List<?> list = (List<?>) value;
+        final boolean allStrings = list.stream().allMatch(String.class::isInstance);
+        final int[] children = new int[list.size()];
+        for (int i = 0; i < children.length; i++) {
+          children[i] = allStrings ? string((String) list.get(i)) : node(list.get(i));
+        }
+        return container(allStrings ? STRING_LIST : LIST, list.size(), children);
+      }
+
+      final int offset = nodes.size();
+      if (value == null) {
+        nodes.writeByte(NULL);
+      } else if (value instanceof Boolean) {
+        nodes.writeByte((Boolean) value ? TRUE : FALSE);
+      } else if (value instanceof Integer) {
+        nodes.writeByte(INT);
+        nodes.writeInt((Integer) value);
+      } else if (value instanceof Long) {
+        nodes.writeByte(LONG);
+        nodes.writeLong((Long) value);
+      } else if (value instanceof Double) {
+        nodes.writeByte(DOUBLE);
+        nodes.writeDouble((Double) value);
+      } else if (value instanceof String) {
+        nodes.writeByte(STRING);
+        nodes.writeInt(string((String) value));
+      } else {
+        throw new IllegalArgumentException(
+            "Can't write " + value.getClass().getSimpleName() + " value " + value);
+      }
+      return offset;
+    }
+
+    private int container(byte tag, int size, int[] children) throws IOException {
+      final int offset = nodes.size();
+      nodes.writeByte(tag);
+      nodes.writeInt(size);
+      for (int child : children) {
+        nodes.writeInt(child);
+      }
+      return offset;
+    }
+
+    private int string(String value) {
+      return strings.computeIfAbsent(value, s -> strings.size());
+    }
+  }
+
+  private String string(int index) {
+    String value = strings[index];
+    if (value == null) {
+      final int from = buffer.getInt(stringsStart + index * 4);
+      final int to = buffer.getInt(stringsStart + (index + 1) * 4);
+      final byte[] bytes = new byte[to - from];
+      final ByteBuffer source = buffer.duplicate();
+      source.position(dataStart + from);
+      source.get(bytes);
+      value = new String(bytes, StandardCharsets.UTF_8);
+      // strings are immutable, so losing this race only means decoding the same bytes twice
+      strings[index] = value;
+    }
+    return value;
+  }
+
+  private Object node(int offset) {
+    final int at = nodesStart + offset;
+    final byte tag = buffer.get(at);
+    switch (tag) {
+      case NULL:
+        return null;
+      case TRUE:
+        return Boolean.TRUE;
+      case FALSE:
+        return Boolean.FALSE;
+      case INT:
+        return buffer.getInt(at + 1);
+      case LONG:
+        return buffer.getLong(at + 1);
+      case DOUBLE:
+        return buffer.getDouble(at + 1);
+      case STRING:
+        return string(buffer.getInt(at + 1));
+      case LIST:
+      case STRING_LIST:
+        return new SnapshotList(at, tag == STRING_LIST);
+      case MAP:
+        return new SnapshotMap(at);
+      default:
+        throw new IllegalStateException("Unknown snapshot node tag " + tag + " at " + offset);
+    }
+  }
+
+  private final class SnapshotList extends AbstractList<Object> implements RandomAccess {
+    private final int at;
+    private final boolean onlyStrings;
+    private final Object[] values;
+
+    private SnapshotList(int at, boolean onlyStrings) {
+      this.at = at;
+      this.onlyStrings = onlyStrings;
+      this.values = onlyStrings ? null : new Object[buffer.getInt(at + 1)];
+    }
+
+    @Override
+    public Object get(int index) {
+      final int size = size();
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+      }
+      final int child = buffer.getInt(at + 5 + index * 4);
+      if (onlyStrings) {
+        return string(child);
+      }
+      Object value = values[index];
+      if (value == null) {
+        value = node(child);
+        values[index] = value;
+      }
+      return value;
+    }
+
+    @Override
+    public int size() {
+      return buffer.getInt(at + 1);
+    }
+  }
+
+  private final class SnapshotMap extends AbstractMap<Object, Object> {
+    private final int at;
+    private volatile Map<Object, Object> entries;
+
+    private SnapshotMap(int at) {
+      this.at = at;
+    }
+
+    @Override
+    public Object get(Object key) {
+      return entries().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return entries().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return buffer.getInt(at + 1);
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+      return entries().entrySet();
+    }
+
+    /** Decodes the keys of this map, leaving nested maps and lists to be decoded when used. */
+    private Map<Object, Object> entries() {
+      Map<Object, Object> decoded = entries;
+      if (decoded == null) {
+        final int size = size();
+        final Map<Object, Object> map = new LinkedHashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+          final int entry = at + 5 + i * 8;
+          map.put(node(buffer.getInt(entry)), node(buffer.getInt(entry + 4)));
+        }
+        decoded = Collections.unmodifiableMap(map);
+        entries = decoded;
+      }
+      return decoded;
+    }
+  }
+}
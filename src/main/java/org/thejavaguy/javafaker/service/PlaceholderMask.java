@@ -0,0 +1,133 @@
+package org.thejavaguy.javafaker.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A numerify, letterify or bothify pattern such as {@code "###-???-####"} compiled into its text
+ * and the positions of its placeholders. Masks are immutable and cached by pattern, so a pattern is
+ * scanned once and every use is a copy of the text plus a fill of the placeholder positions.
+ */
+final class PlaceholderMask {
+
+  /** Keeps the caches from growing without bound when arbitrary strings are used as patterns. */
+  private static final int MAX_CACHED_MASKS = 10_000;
+
+  private static final ConcurrentMap<String, PlaceholderMask> DIGIT_MASKS =
+      new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, PlaceholderMask> LETTER_MASKS =
+      new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, PlaceholderMask> DIGIT_AND_LETTER_MASKS =
+      new ConcurrentHashMap<>();
+
+  private static final char[] DIGITS = "0123456789".toCharArray();
+  private static final char[] LOWER_CASE_LETTERS = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+  private static final char[] UPPER_CASE_LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+  private static final int[] NONE = new int[0];
+
+  private final String pattern;
+  private final char[] text;
+  private final int[] digitPositions;
+  private final int[] letterPositions;
+
+  private PlaceholderMask(String pattern, boolean digits, boolean letters) {
+    this.pattern = pattern;
+    this.text = pattern.toCharArray();
+    this.digitPositions = digits ? positionsOf('#', text) : NONE;
+    this.letterPositions = letters ? positionsOf('?', text) : NONE;
+  }
+
+  /** @return the mask replacing the '#' characters of the pattern with digits */
+  static PlaceholderMask digits(String pattern) {
+    return compile(DIGIT_MASKS, pattern, true, false);
+  }
+
+  /** @return the mask replacing the '?' characters of the pattern with letters */
+  static PlaceholderMask letters(String pattern) {
+    return compile(LETTER_MASKS, pattern, false, true);
+  }
+
+  /** @return the mask replacing both the '#' and the '?' characters of the pattern */
+  static PlaceholderMask digitsAndLetters(String pattern) {
+    return compile(DIGIT_AND_LETTER_MASKS, pattern, true, true);
+  }
+
+  private static PlaceholderMask compile(
+      ConcurrentMap<String, PlaceholderMask> masks,
+      String pattern,
+      boolean digits,
+      boolean letters) {
+    PlaceholderMask mask = masks.get(pattern);
+    if (mask == null) {
+      mask = new PlaceholderMask(pattern, digits, letters);
+      if (masks.size() < MAX_CACHED_MASKS) {
+        masks.putIfAbsent(pattern, mask);
+      }
+    }
+    return mask;
+  }
+
+  private static int[] positionsOf(char placeholder, char[] text) {
+    int count = 0;
+    for (char c : text) {
+      if (c == placeholder) {
+        count++;
+      }
+    }
+    if (count == 0) {
+      return NONE;
+    }
+    final int[] positions = new int[count];
+    for (int i = 0, next = 0; next < count; i++) {
+      if (text[i] == placeholder) {
+        positions[next++] = i;
+      }
+    }
+    return positions;
+  }
+
+  String generate(RandomService randomService, boolean upperCase) {
+    if (digitPositions.length == 0 && letterPositions.length == 0) {
+      return pattern;
+    }
+    return new String(fill(randomService, upperCase));
+  }
+
+  /**
+   * Appends the generated text to out. {@link StringBuilder} and {@link CharBuffer} get it in a
+   * single bulk copy.
+   */
+  <A extends Appendable> A appendTo(A out, RandomService randomService, boolean upperCase) {
+    final char[] chars = fill(randomService, upperCase);
+    if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(chars);
+    } else if (out instanceof CharBuffer) {
+      ((CharBuffer) out).put(chars);
+    } else {
+      try {
+        for (char c : chars) {
+          out.append(c);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return out;
+  }
+
+  private char[] fill(RandomService randomService, boolean upperCase) {
+    final char[] chars = text.clone();
+    if (digitPositions.length > 0) {
+      randomService.fillChars(chars, digitPositions, DIGITS);
+    }
+    if (letterPositions.length > 0) {
+      randomService.fillChars(
+          chars, letterPositions, upperCase ? UPPER_CASE_LETTERS : LOWER_CASE_LETTERS);
+    }
+    return chars;
+  }
+}
@@ -1,29 +1,114 @@
 package org.thejavaguy.javafaker.service;
 
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
 
 public class RandomService {
-  private static final Random SHARED_RANDOM = new Random();
-  private final Random random;
+  /** The increment of SplitMix64, which spreads consecutive stream indexes over the seed space. */
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
 
-  /** Uses a default shared random. */
+  private static final char[] DIGITS = "0123456789".toCharArray();
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  private final Generator generator;
+
+  /** The seed {@link #fork(long)} derives streams from, or null if this service can't fork. */
+  private final Long streamSeed;
+
+  /** Uses the random generator of the calling thread, so threads never contend for one seed. */
   public RandomService() {
-    this(SHARED_RANDOM);
+    this(ThreadLocalGenerator.INSTANCE, ThreadLocalRandom.current().nextLong());
   }
 
   /**
-   * @param random If null is passed in, a default Random is assigned
+   * @param random If null is passed in, the random generator of the calling thread is used
    */
   public RandomService(Random random) {
-    this.random = random != null ? random : SHARED_RANDOM;
+    this(
+        random != null ? new RandomBackedGenerator(random) : ThreadLocalGenerator.INSTANCE,
+        random != null ? null : ThreadLocalRandom.current().nextLong());
+  }
+
+  private RandomService(Generator generator, Long streamSeed) {
+    this.generator = generator;
+    this.streamSeed = streamSeed;
+  }
+
+  /**
+   * @param random a faster generator than {@link Random} for a single thread; if null is passed
+   *     in, the random generator of the calling thread is used
+   */
+  public static RandomService of(SplittableRandom random) {
+    return random != null
+        ? new RandomService(new SplittableRandomGenerator(random), null)
+        : new RandomService();
+  }
+
+  /**
+   * Uses a {@link SplittableRandom} with the given seed. The streams returned by {@link
+   * #fork(long)} are then a pure function of the seed and the stream index.
+   *
+   * <p>Like the {@link SplittableRandom} it wraps, the returned service isn't thread safe: give
+   * each thread its own, from {@link #fork(long)} or {@link #split()}.
+   */
+  public static RandomService ofSeed(long seed) {
+    return new RandomService(new SplittableRandomGenerator(new SplittableRandom(seed)), seed);
+  }
+
+  /**
+   * Plugs in any other generator, such as a xoshiro or PCG implementation, through its {@code
+   * nextLong} method: every value is derived from its 64 bit words.
+   *
+   * @param bits If null is passed in, the random generator of the calling thread is used
+   */
+  public static RandomService ofBits(LongSupplier bits) {
+    return bits != null ? new RandomService(new BitsGenerator(bits), null) : new RandomService();
+  }
+
+  /**
+   * Returns a service on a new generator split off this one, advancing this one. Splitting gives
+   * each worker of a parallel job its own generator; for results that don't depend on how the work
+   * is scheduled, use {@link #fork(long)} instead.
+   */
+  public RandomService split() {
+    return new RandomService(generator.split(), null);
+  }
+
+  /**
+   * Returns a service on the stream with the given index, without advancing this one. The same
+   * seed and index always give the same stream, whatever order the streams are asked for in and
+   * whatever thread asks for them.
+   *
+   * <p>Only services with a seed of their own can fork: those from {@link #ofSeed(long)}, the
+   * streams they fork, and services on the generator of the calling thread, which pick a random
+   * seed when they are created. The seed of a {@link Random} or any other generator passed in
+   * can't be read back, and drawing one from it would change the values it goes on to produce.
+   *
+   * @throws IllegalStateException if this service has no seed to fork from
+   */
+  public RandomService fork(long streamIndex) {
+    if (streamSeed == null) {
+      throw new IllegalStateException(
+          "only services with a seed can fork, create this one with RandomService.ofSeed");
+    }
+    return ofSeed(mix64(streamSeed + (streamIndex + 1) * GOLDEN_GAMMA));
+  }
+
+  /** The output function of SplitMix64, so that neighbouring indexes give unrelated seeds. */
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
   }
 
   public int nextInt(int n) {
-    return random.nextInt(n);
+    return generator.nextInt(n);
   }
 
   public long nextLong() {
-    return random.nextLong();
+    return generator.nextLong();
   }
 
   // lifted from http://stackoverflow.com/questions/2546078/java-random-long-number-in-0-x-n-range
@@ -34,7 +119,7 @@ public class RandomService {
 
     long bits, val;
     do {
-      long randomLong = random.nextLong();
+      long randomLong = generator.nextLong();
       bits = (randomLong << 1) >>> 1;
       val = bits % n;
     } while (bits - val + (n - 1) < 0L);
@@ -42,15 +127,16 @@ public class RandomService {
   }
 
   public double nextDouble() {
-    return random.nextDouble();
+    return generator.nextDouble();
   }
 
+  /** Boxing takes one of the two cached {@link Boolean} instances, so it doesn't allocate. */
   public Boolean nextBoolean() {
-    return random.nextBoolean();
+    return generator.nextBoolean();
   }
 
   public Integer nextInt(int min, int max) {
-    return random.nextInt((max - min) + 1) + min;
+    return generator.nextInt((max - min) + 1) + min;
   }
 
   public String hex() {
@@ -62,14 +148,276 @@ public class RandomService {
       return ""; // Keep the existing behavior instead of throwing an error.
     }
     final char[] hexChars = new char[length];
-    for (int i = 0; i < length; i++) {
-      final int nextHex = nextInt(16);
-      if (nextHex < 10) {
-        hexChars[i] = (char) ('0' + nextHex);
-      } else {
-        hexChars[i] = (char) ('A' + nextHex - 10);
+    fillChars(hexChars, 0, length, HEX_DIGITS);
+    return new String(hexChars);
+  }
+
+  /**
+   * @param n how many bits to return, from 1 to 64
+   * @return a long of which only the lowest n bits are random, all from a single draw
+   */
+  public long nextBits(int n) {
+    if (n < 1 || n > 64) {
+      throw new IllegalArgumentException("n must be between 1 and 64");
+    }
+    return generator.nextLong() >>> (64 - n);
+  }
+
+  /** Fills the array with random bytes, eight of them out of each draw. */
+  public void nextBytes(byte[] bytes) {
+    for (int i = 0; i < bytes.length; ) {
+      long word = generator.nextLong();
+      for (int j = 0; j < Long.BYTES && i < bytes.length; j++, word >>>= Byte.SIZE) {
+        bytes[i++] = (byte) word;
       }
     }
-    return new String(hexChars);
+  }
+
+  /**
+   * Fills the array with random ints from 0 (inclusive) to bound (exclusive). As many values as fit
+   * in a 63 bit word are cut out of each draw, so filling ten digits takes a single draw.
+   */
+  public void fillInts(int[] dst, int bound) {
+    if (bound <= 0) {
+      throw new IllegalArgumentException("bound must be positive");
+    }
+    final int perWord = valuesPerWord(bound);
+    final long excess = excess(pow(bound, perWord));
+    int i = 0;
+    while (i < dst.length) {
+      long word = nextWord(excess);
+      for (int j = 0; j < perWord && i < dst.length; j++) {
+        dst[i++] = (int) (word % bound);
+        word /= bound;
+      }
+    }
+  }
+
+  /** Fills len chars of the array, from off, with random decimal digits. */
+  public void fillDigits(char[] dst, int off, int len) {
+    fillChars(dst, off, len, DIGITS);
+  }
+
+  /**
+   * Fills len chars of the array, from off, with chars picked at random from the alphabet, taking
+   * as many of them as fit out of each draw like {@link #fillInts(int[], int)}.
+   */
+  public void fillChars(char[] dst, int off, int len, char[] alphabet) {
+    if (off < 0 || len < 0 || len > dst.length - off) {
+      throw new IndexOutOfBoundsException("off: " + off + ", len: " + len);
+    }
+    final int bound = alphabet.length;
+    if (bound == 0) {
+      throw new IllegalArgumentException("alphabet must not be empty");
+    }
+    final int perWord = valuesPerWord(bound);
+    final long excess = excess(pow(bound, perWord));
+    final int end = off + len;
+    int i = off;
+    while (i < end) {
+      long word = nextWord(excess);
+      for (int j = 0; j < perWord && i < end; j++) {
+        dst[i++] = alphabet[(int) (word % bound)];
+        word /= bound;
+      }
+    }
+  }
+
+  /**
+   * Sets the chars of the array at the given positions to chars picked at random from the
+   * alphabet, drawing them like {@link #fillChars(char[], int, int, char[])}.
+   */
+  public void fillChars(char[] dst, int[] positions, char[] alphabet) {
+    final int bound = alphabet.length;
+    if (bound == 0) {
+      throw new IllegalArgumentException("alphabet must not be empty");
+    }
+    final int perWord = valuesPerWord(bound);
+    final long excess = excess(pow(bound, perWord));
+    int i = 0;
+    while (i < positions.length) {
+      long word = nextWord(excess);
+      for (int j = 0; j < perWord && i < positions.length; j++) {
+        dst[positions[i++]] = alphabet[(int) (word % bound)];
+        word /= bound;
+      }
+    }
+  }
+
+  /** @return how many values below bound fit in a non-negative long */
+  private static int valuesPerWord(int bound) {
+    if (bound == 1) {
+      return 63;
+    }
+    int count = 1;
+    for (long range = bound; range <= Long.MAX_VALUE / bound; range *= bound) {
+      count++;
+    }
+    return count;
+  }
+
+  private static long pow(int base, int exponent) {
+    long result = 1;
+    for (int i = 0; i < exponent; i++) {
+      result *= base;
+    }
+    return result;
+  }
+
+  /** @return 2^63 modulo range: the draws above the last whole multiple of range */
+  private static long excess(long range) {
+    return (Long.MAX_VALUE % range + 1) % range;
+  }
+
+  /**
+   * Draws a non-negative long, rejecting the excess draws at the top, so that the values cut out of
+   * it are all equally likely.
+   */
+  private long nextWord(long excess) {
+    long word;
+    do {
+      word = generator.nextLong() >>> 1;
+    } while (word > Long.MAX_VALUE - excess);
+    return word;
+  }
+
+  /** The few primitives everything else here is built on. */
+  private interface Generator {
+    int nextInt(int bound);
+
+    long nextLong();
+
+    double nextDouble();
+
+    boolean nextBoolean();
+
+    /** Returns a new, independent generator, seeded from this one. */
+    default Generator split() {
+      return new SplittableRandomGenerator(new SplittableRandom(nextLong()));
+    }
+  }
+
+  private static final class ThreadLocalGenerator implements Generator {
+    static final ThreadLocalGenerator INSTANCE = new ThreadLocalGenerator();
+
+    @Override
+    public int nextInt(int bound) {
+      return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+      return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+      return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+      return ThreadLocalRandom.current().nextBoolean();
+    }
+  }
+
+  private static final class RandomBackedGenerator implements Generator {
+    private final Random random;
+
+    RandomBackedGenerator(Random random) {
+      this.random = random;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+      return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+      return random.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+      return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+      return random.nextBoolean();
+    }
+  }
+
+  private static final class SplittableRandomGenerator implements Generator {
+    private final SplittableRandom random;
+
+    SplittableRandomGenerator(SplittableRandom random) {
+      this.random = random;
+    }
+
+    @Override
+    public Generator split() {
+      return new SplittableRandomGenerator(random.split());
+    }
+
+    @Override
+    public int nextInt(int bound) {
+      return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+      return random.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+      return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+      return random.nextBoolean();
+    }
+  }
+
+  private static final class BitsGenerator implements Generator {
+    private final LongSupplier bits;
+
+    BitsGenerator(LongSupplier bits) {
+      this.bits = bits;
+    }
+
+    /** Lemire's multiply-and-reject: unbiased, and nearly always a single 32 bit draw. */
+    @Override
+    public int nextInt(int bound) {
+      if (bound <= 0) {
+        throw new IllegalArgumentException("bound must be positive");
+      }
+      long product = (bits.getAsLong() >>> 32) * bound;
+      if ((product & 0xFFFFFFFFL) < bound) {
+        final long threshold = (0x100000000L - bound) % bound;
+        while ((product & 0xFFFFFFFFL) < threshold) {
+          product = (bits.getAsLong() >>> 32) * bound;
+        }
+      }
+      return (int) (product >>> 32);
+    }
+
+    @Override
+    public long nextLong() {
+      return bits.getAsLong();
+    }
+
+    @Override
+    public double nextDouble() {
+      return (bits.getAsLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+      return bits.getAsLong() < 0;
+    }
   }
 }
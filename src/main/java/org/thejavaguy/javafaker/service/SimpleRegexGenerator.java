@@ -0,0 +1,181 @@
+package org.thejavaguy.javafaker.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Generates strings for regular expressions that are just a sequence of characters and character
+ * classes with fixed or bounded repeats, such as {@code [A-HJ-NPR-Z0-9]{17}} or {@code
+ * \d{8}[0-9A-Za-z]{16}}. Most of the regular expressions used for identifiers look like this and
+ * can be filled in directly from the {@link RandomService} instead of walking an automaton.
+ *
+ * <p>Anything else (alternation, groups, unbounded repeats, negated classes, ...) is left to
+ * Generex: {@link #compile(String)} returns null for it.
+ */
+final class SimpleRegexGenerator {
+
+  /** Characters with a meaning of their own in the regular expressions Generex understands. */
+  private static final String RESERVED = ".()*+?|^$\\{}[]&~#@<>\"";
+
+  private static final char[] DIGITS = alphabet("0-9");
+  private static final char[] WORD_CHARACTERS = alphabet("a-zA-Z0-9_");
+
+  private final char[][] alphabets;
+  private final int[] minimums;
+  private final int[] maximums;
+  private final int maxLength;
+
+  private SimpleRegexGenerator(List<char[]> alphabets, List<int[]> repeats) {
+    this.alphabets = alphabets.toArray(new char[0][]);
+    this.minimums = new int[repeats.size()];
+    this.maximums = new int[repeats.size()];
+    int maxLength = 0;
+    for (int i = 0; i < repeats.size(); i++) {
+      minimums[i] = repeats.get(i)[0];
+      maximums[i] = repeats.get(i)[1];
+      maxLength += maximums[i];
+    }
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * @return a generator for the regular expression, or null if it's not simple enough
+   */
+  static SimpleRegexGenerator compile(String regex) {
+    final List<char[]> alphabets = new ArrayList<>();
+    final List<int[]> repeats = new ArrayList<>();
+    int i = 0;
+    while (i < regex.length()) {
+      final char c = regex.charAt(i);
+      final char[] alphabet;
+      if (c == '[') {
+        final int end = regex.indexOf(']', i + 1);
+        if (end < 0) {
+          return null;
+        }
+        alphabet = characterClass(regex.substring(i + 1, end));
+        i = end + 1;
+      } else if (c == '\\') {
+        if (i + 1 >= regex.length()) {
+          return null;
+        }
+        alphabet = escape(regex.charAt(i + 1));
+        i += 2;
+      } else if (RESERVED.indexOf(c) >= 0) {
+        return null;
+      } else {
+        alphabet = new char[] {c};
+        i++;
+      }
+      if (alphabet == null) {
+        return null;
+      }
+
+      int[] repeat = {1, 1};
+      if (i < regex.length() && regex.charAt(i) == '?') {
+        repeat = new int[] {0, 1};
+        i++;
+      } else if (i < regex.length() && regex.charAt(i) == '{') {
+        final int end = regex.indexOf('}', i + 1);
+        if (end < 0) {
+          return null;
+        }
+        repeat = repeat(regex.substring(i + 1, end));
+        if (repeat == null) {
+          return null;
+        }
+        i = end + 1;
+      }
+      alphabets.add(alphabet);
+      repeats.add(repeat);
+    }
+    return new SimpleRegexGenerator(alphabets, repeats);
+  }
+
+  String generate(RandomService randomService) {
+    final char[] chars = new char[maxLength];
+    int length = 0;
+    for (int i = 0; i < alphabets.length; i++) {
+      final char[] alphabet = alphabets[i];
+      final int count =
+          minimums[i] == maximums[i]
+              ? minimums[i]
+              : minimums[i] + randomService.nextInt(maximums[i] - minimums[i] + 1);
+      if (alphabet.length == 1) {
+        Arrays.fill(chars, length, length + count, alphabet[0]);
+      } else {
+        randomService.fillChars(chars, length, count, alphabet);
+      }
+      length += count;
+    }
+    return new String(chars, 0, length);
+  }
+
+  /** Only escaped punctuation and the \d and \w shorthands mean the same thing everywhere. */
+  private static char[] escape(char c) {
+    if (c == 'd') {
+      return DIGITS;
+    }
+    if (c == 'w') {
+      return WORD_CHARACTERS;
+    }
+    if (Character.isLetterOrDigit(c)) {
+      return null;
+    }
+    return new char[] {c};
+  }
+
+  /** Accepts classes made of plain characters and ranges, like {@code A-HJ-NPR-Z0-9}. */
+  private static char[] characterClass(String body) {
+    if (body.isEmpty() || body.charAt(0) == '^') {
+      return null;
+    }
+    for (int i = 0; i < body.length(); i++) {
+      final char c = body.charAt(i);
+      if (c == '\\' || c == '[') {
+        return null;
+      }
+    }
+    return alphabet(body);
+  }
+
+  private static char[] alphabet(String ranges) {
+    final BitSet chars = new BitSet();
+    for (int i = 0; i < ranges.length(); i++) {
+      final char from = ranges.charAt(i);
+      if (i + 2 < ranges.length() && ranges.charAt(i + 1) == '-') {
+        final char to = ranges.charAt(i + 2);
+        if (to < from) {
+          return null;
+        }
+        chars.set(from, to + 1);
+        i += 2;
+      } else {
+        chars.set(from);
+      }
+    }
+    final char[] alphabet = new char[chars.cardinality()];
+    for (int c = chars.nextSetBit(0), i = 0; c >= 0; c = chars.nextSetBit(c + 1)) {
+      alphabet[i++] = (char) c;
+    }
+    return alphabet;
+  }
+
+  /** Parses the inside of {@code {n}} or {@code {n,m}}; open ended repeats aren't simple. */
+  private static int[] repeat(String body) {
+    final int comma = body.indexOf(',');
+    try {
+      if (comma < 0) {
+        final int count = Integer.parseInt(body);
+        return count >= 0 ? new int[] {count, count} : null;
+      }
+      final int min = Integer.parseInt(body.substring(0, comma));
+      final int max = Integer.parseInt(body.substring(comma + 1));
+      return 0 <= min && min <= max ? new int[] {min, max} : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package org.thejavaguy.javafaker.service;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The values of a weighted list from a locale file, together with an alias table (Walker's alias
+ * method, built with Vose's algorithm) to pick them by weight. A list is weighted when every
+ * element is a map of just a value and a weight:
+ *
+ * <pre>
+ * first_name:
+ *   - {value: James, weight: 3.3}
+ *   - {value: Mary, weight: 2.6}
+ *   - {value: Ezekiel, weight: 0.1}
+ * </pre>
+ *
+ * <p>As a {@link List} it holds just the values, so code reading the list itself sees the same
+ * thing as for an unweighted list. {@link #pick(RandomService)} takes a single draw, like a uniform
+ * pick does.
+ */
+final class WeightedList extends AbstractList<Object> implements RandomAccess {
+
+  private static final String VALUE = "value";
+  private static final String WEIGHT = "weight";
+
+  private final Object[] values;
+  private final double[] probabilities;
+  private final int[] aliases;
+
+  private WeightedList(Object[] values, double[] weights, double totalWeight) {
+    final int n = values.length;
+    this.values = values;
+    this.probabilities = new double[n];
+    this.aliases = new int[n];
+
+    final double[] scaled = new double[n];
+    final int[] small = new int[n];
+    final int[] large = new int[n];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int i = 0; i < n; i++) {
+      scaled[i] = weights[i] * n / totalWeight;
+      if (scaled[i] < 1.0) {
+        small[smallCount++] = i;
+      } else {
+        large[largeCount++] = i;
+      }
+    }
+    while (smallCount > 0 && largeCount > 0) {
+      final int less = small[--smallCount];
+      final int more = large[--largeCount];
+      probabilities[less] = scaled[less];
+      aliases[less] = more;
+      scaled[more] = scaled[more] + scaled[less] - 1.0;
+      if (scaled[more] < 1.0) {
+        small[smallCount++] = more;
+      } else {
+        large[largeCount++] = more;
+      }
+    }
+    // whatever is left over only differs from 1 by rounding errors
+    while (largeCount > 0) {
+      probabilities[large[--largeCount]] = 1.0;
+    }
+    while (smallCount > 0) {
+      probabilities[small[--smallCount]] = 1.0;
+    }
+  }
+
+  /**
+   * @return a {@link WeightedList} if the value is a weighted list, otherwise the value itself
+   */
+  static Object of(Object value) {
+    if (!(value instanceof List) || ((List<?>) value).isEmpty()) {
+      return value;
+    }
+    final List<?> list = (List<?>) value;
+    final Object[] values = new Object[list.size()];
+    final double[] weights = new double[list.size()];
+    double totalWeight = 0;
+    for (int i = 0; i < values.length; i++) {
+      if (!(list.get(i) instanceof Map)) {
+        return value;
+      }
+      final Map<?, ?> element = (Map<?, ?>) list.get(i);
+      if (element.size() != 2
+          || !element.containsKey(VALUE)
+          || !(element.get(WEIGHT) instanceof Number)) {
+        return value;
+      }
+      values[i] = element.get(VALUE);
+      weights[i] = ((Number) element.get(WEIGHT)).doubleValue();
+      if (!(weights[i] >= 0) || Double.isInfinite(weights[i])) {
+        throw new IllegalArgumentException("weight must be a finite, non-negative number");
+      }
+      totalWeight += weights[i];
+    }
+    if (totalWeight <= 0) {
+      throw new IllegalArgumentException("at least one weight must be positive");
+    }
+    return new WeightedList(values, weights, totalWeight);
+  }
+
+  /**
+   * Picks a value with a probability proportional to its weight. The integer part of the scaled
+   * draw chooses the column of the alias table and the fraction chooses between its two values.
+   */
+  Object pick(RandomService randomService) {
+    final double scaled = randomService.nextDouble() * values.length;
+    final int column = Math.min((int) scaled, values.length - 1);
+    return scaled - column < probabilities[column] ? values[column] : values[aliases[column]];
+  }
+
+  @Override
+  public Object get(int index) {
+    return values[index];
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+}
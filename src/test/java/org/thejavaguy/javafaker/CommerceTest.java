@@ -3,6 +3,7 @@ package org.thejavaguy.javafaker;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.text.DecimalFormatSymbols;
+import java.util.Locale;
 import org.junit.jupiter.api.Test;
 
 public class CommerceTest extends AbstractFakerTest {
@@ -24,6 +25,14 @@ public class CommerceTest extends AbstractFakerTest {
     assertThat(faker.commerce().department()).matches("(\\w+(, | & )?){1,3}");
   }
 
+  @Test
+  public void testDepartmentOfALocaleListingOneTwice() {
+    final Faker arabic = new Faker(new Locale("ar"));
+    for (int i = 0; i < 100; i++) {
+      assertThat(arabic.commerce().department()).isNotEmpty();
+    }
+  }
+
   @Test
   public void testProductName() {
     assertThat(faker.commerce().productName()).matches("(\\w+ ?){3,4}");
@@ -2,27 +2,36 @@ package org.thejavaguy.javafaker;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 public class CryptoTest extends AbstractFakerTest {
 
   @Test
   public void testMd5() {
-    assertThat(faker.crypto().md5()).matches("[a-z\\d]+");
+    assertThat(faker.crypto().md5()).matches("[a-f\\d]{32}");
   }
 
   @Test
   public void testSha1() {
-    assertThat(faker.crypto().sha1()).matches("[a-z\\d]+");
+    assertThat(faker.crypto().sha1()).matches("[a-f\\d]{40}");
   }
 
   @Test
   public void testSha256() {
-    assertThat(faker.crypto().sha256()).matches("[a-z\\d]+");
+    assertThat(faker.crypto().sha256()).matches("[a-f\\d]{64}");
   }
 
   @Test
   public void testSha512() {
-    assertThat(faker.crypto().sha512()).matches("[a-z\\d]+");
+    assertThat(faker.crypto().sha512()).matches("[a-f\\d]{128}");
+  }
+
+  @Test
+  public void testSha256Batch() {
+    final List<String> digests = faker.crypto().sha256Batch(100);
+
+    assertThat(digests).hasSize(100).doesNotHaveDuplicates();
+    assertThat(digests).allMatch(digest -> digest.matches("[a-f\\d]{64}"));
   }
 }
@@ -3,11 +3,17 @@ package org.thejavaguy.javafaker;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestTemplate;
 import org.thejavaguy.javafaker.repeating.Repeat;
+import org.thejavaguy.javafaker.service.RandomService;
 
 public class FakerTest extends AbstractFakerTest {
 
@@ -152,6 +158,93 @@ public class FakerTest extends AbstractFakerTest {
     assertThat(secondResult).isEqualTo(firstResult);
   }
 
+  @Test
+  public void regexifyWithTheSameRegexRepeatedlyShouldBeReproducible() {
+    final Faker first = new Faker(new Random(7));
+    final Faker second = new Faker(new Random(7));
+
+    for (int i = 0; i < 10; i++) {
+      final String value = first.regexify("[A-HJ-NPR-Z0-9]{17}");
+      assertThat(value).matches("[A-HJ-NPR-Z0-9]{17}");
+      assertThat(second.regexify("[A-HJ-NPR-Z0-9]{17}")).isEqualTo(value);
+    }
+  }
+
+  @Test
+  public void regexifyFromManyThreadsShouldMatchTheRegex() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<String>> values = new ArrayList<>();
+      for (int i = 0; i < 256; i++) {
+        values.add(executor.submit(() -> faker.regexify("\\d{8}[0-9A-Za-z]{16}")));
+      }
+      for (Future<String> value : values) {
+        assertThat(value.get()).matches("\\d{8}[0-9A-Za-z]{16}");
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void generexRegexifyFromManyThreadsShouldBeReproducible() throws Exception {
+    final String regex = "(foo|bar)\\d{2}[a-c]+";
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 256; i++) {
+      expected.add(new Faker(new Random(i)).regexify(regex));
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<String>> values = new ArrayList<>();
+      for (int i = 0; i < 256; i++) {
+        final int seed = i;
+        values.add(executor.submit(() -> new Faker(new Random(seed)).regexify(regex)));
+      }
+      for (int i = 0; i < 256; i++) {
+        assertThat(values.get(i).get()).matches(regex).isEqualTo(expected.get(i));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void recordsOfASeededFakerDependOnlyOnTheirIndex() throws Exception {
+    final Faker seeded = new Faker(Locale.ENGLISH, RandomService.ofSeed(42L));
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      expected.add(seeded.forRecord(i).name().fullName());
+    }
+
+    final Faker again = new Faker(Locale.ENGLISH, RandomService.ofSeed(42L));
+    again.name().fullName();
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<String>> values = new ArrayList<>();
+      for (int i = 63; i >= 0; i--) {
+        final int index = i;
+        values.add(0, executor.submit(() -> again.forRecord(index).name().fullName()));
+      }
+      for (int i = 0; i < 64; i++) {
+        assertThat(values.get(i).get()).isEqualTo(expected.get(i));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void splitFakersUseTheSameLocale() {
+    final Faker french = new Faker(new Locale("fr"), RandomService.ofSeed(42L));
+
+    for (int i = 0; i < 20; i++) {
+      assertThat(french.split().address().secondaryAddress()).matches("Apt\\. \\d{3}|\\d .tage");
+      assertThat(french.forRecord(i).address().secondaryAddress())
+          .matches("Apt\\. \\d{3}|\\d .tage");
+    }
+  }
+
   @Test
   public void resolveShouldReturnValueThatExists() {
     assertThat(faker.resolve("address.city_prefix")).isNotEmpty();
@@ -174,4 +267,29 @@ public class FakerTest extends AbstractFakerTest {
     assertThat(Faker.instance(new Random(1))).isInstanceOf(Faker.class);
     assertThat(Faker.instance(Locale.CHINA, new Random(2))).isInstanceOf(Faker.class);
   }
+
+  @Test
+  public void providersAreCreatedOnceAndReused() {
+    final Faker fresh = new Faker();
+
+    assertThat(fresh.name()).isSameAs(fresh.name());
+    assertThat(fresh.address()).isSameAs(fresh.address());
+  }
+
+  @Test
+  public void providersAreCreatedOnceWhenFirstUsedFromManyThreads() throws Exception {
+    final Faker fresh = new Faker();
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Sip>> sips = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        sips.add(executor.submit(fresh::sip));
+      }
+      for (Future<Sip> sip : sips) {
+        assertThat(sip.get()).isSameAs(fresh.sip());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
@@ -1,7 +1,10 @@
 package org.thejavaguy.javafaker;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.List;
+import org.apache.commons.validator.routines.checkdigit.IBANCheckDigit;
 import org.apache.commons.validator.routines.checkdigit.LuhnCheckDigit;
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +38,37 @@ public class FinanceTest extends AbstractFakerTest {
     assertThat(faker.finance().iban("DE")).matches("DE\\d{20}");
   }
 
+  @Test
+  public void bicWithAndWithoutBranchCode() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(faker.finance().bic().length()).isIn(8, 11);
+    }
+  }
+
+  @Test
+  public void ibanHasValidCheckDigits() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(IBANCheckDigit.IBAN_CHECK_DIGIT.isValid(faker.finance().iban())).isTrue();
+    }
+  }
+
+  @Test
+  public void ibans() {
+    final List<String> ibans = faker.finance().ibans("GB", 100);
+
+    assertThat(ibans).hasSize(100);
+    for (String iban : ibans) {
+      assertThat(iban).matches("GB\\d{2}[A-Z]{4}\\d{14}");
+      assertThat(IBANCheckDigit.IBAN_CHECK_DIGIT.isValid(iban)).isTrue();
+    }
+  }
+
+  @Test
+  public void ibanWithUnknownCountryCode() {
+    assertThatThrownBy(() -> faker.finance().iban("XX"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void creditCardWithType() {
     for (CreditCardType type : CreditCardType.values()) {
@@ -22,6 +22,18 @@ public class IdNumberTest extends AbstractFakerTest {
     assertThat(faker.idNumber().valid()).matches("[0-8]\\d{2}-\\d{2}-\\d{4}");
   }
 
+  @Test
+  public void testSsnValidNeverUsesInvalidParts() {
+    for (int i = 0; i < 1000; i++) {
+      assertThat(faker.idNumber().ssnValid())
+          .matches("[0-8]\\d{2}-\\d{2}-\\d{4}")
+          .doesNotStartWith("000")
+          .doesNotStartWith("666")
+          .doesNotContain("-00-")
+          .doesNotEndWith("0000");
+    }
+  }
+
   @Test
   public void testValidSwedishSsn() {
     final Faker f = new Faker(new Locale("sv_SE"));
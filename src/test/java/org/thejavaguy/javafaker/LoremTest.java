@@ -3,6 +3,9 @@ package org.thejavaguy.javafaker;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 public class LoremTest extends AbstractFakerTest {
@@ -100,4 +103,51 @@ public class LoremTest extends AbstractFakerTest {
   public void testWords() {
     assertThat(faker.lorem().words()).hasSizeGreaterThanOrEqualTo(1);
   }
+
+  @Test
+  public void testWordsIntoAppendable() {
+    assertThat(faker.lorem().words(5, new StringBuilder()).toString()).matches("(\\w+ ){4}\\w+");
+  }
+
+  @Test
+  public void testSentencesIntoAppendable() {
+    assertThat(faker.lorem().sentences(3, new StringWriter()).toString())
+        .matches("(\\p{Upper}[\\w ]+\\. ){2}\\p{Upper}[\\w ]+\\.");
+  }
+
+  @Test
+  public void streamedParagraphsAreTheSameAsTheListedOnes() {
+    final Faker listing = new Faker(new Random(7));
+    final Faker streaming = new Faker(new Random(7));
+
+    assertThat(streaming.lorem().paragraphs(5, new StringWriter()).toString())
+        .isEqualTo(String.join("\n", listing.lorem().paragraphs(5)));
+  }
+
+  @Test
+  public void streamedFixedStringIsTheSameAsTheReturnedOne() {
+    final Faker returning = new Faker(new Random(7));
+    final Faker streaming = new Faker(new Random(7));
+
+    assertThat(streaming.lorem().fixedString(1_000L, new StringBuilder()).toString())
+        .isEqualTo(returning.lorem().fixedString(1_000));
+  }
+
+  @Test
+  public void paragraphsFillByteBuffer() {
+    final ByteBuffer buffer = faker.lorem().paragraphs(ByteBuffer.allocate(10_001));
+
+    assertThat(buffer.hasRemaining()).isFalse();
+    assertThat(buffer.get(0)).isNotEqualTo((byte) '\n');
+  }
+
+  @Test
+  public void paragraphsDontStartWithALineBreakAfterExistingContent() {
+    final ByteBuffer buffer = ByteBuffer.allocate(1_000);
+    buffer.put((byte) '>');
+
+    faker.lorem().paragraphs(buffer);
+
+    assertThat(buffer.get(1)).isNotEqualTo((byte) '\n');
+  }
 }
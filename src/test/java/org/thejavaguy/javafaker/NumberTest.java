@@ -188,6 +188,28 @@ public class NumberTest extends AbstractFakerTest {
         .isEqualTo(2L);
   }
 
+  @Test
+  public void numberBetweenWithMinAboveMaxStaysWithinTheRange() {
+    for (int i = 0; i < 100; ++i) {
+      assertThat(faker.number().numberBetween(10, 1)).isGreaterThanOrEqualTo(1).isLessThan(10);
+      assertThat(faker.number().numberBetween(10L, 1L)).isGreaterThanOrEqualTo(1L).isLessThan(10L);
+    }
+  }
+
+  @Test
+  public void numberBetweenCoversTheWholeLongRange() {
+    boolean negative = false;
+    boolean positive = false;
+    for (int i = 0; i < 100; ++i) {
+      final long value = faker.number().numberBetween(Long.MIN_VALUE, Long.MAX_VALUE);
+      assertThat(value).isLessThan(Long.MAX_VALUE);
+      negative |= value < 0;
+      positive |= value > 0;
+    }
+    assertThat(negative).isTrue();
+    assertThat(positive).isTrue();
+  }
+
   /**
    * Given a number of min/max ranges for each min/max range, call {@link Number#randomDouble(int,
    * int, int)} with min/max 'n' times calculate the uniqueness for that given min/max range. For
@@ -320,6 +342,8 @@ public class NumberTest extends AbstractFakerTest {
     String digits = faker.number().digits(5);
 
     assertThat(digits).matches("[0-9]{5}");
+    assertThat(faker.number().digits(40)).matches("[0-9]{40}");
+    assertThat(faker.number().digits(0)).isEmpty();
   }
 
   /**
@@ -1,9 +1,12 @@
 package org.thejavaguy.javafaker;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -54,6 +57,39 @@ public class OptionsTest extends AbstractFakerTest {
     }
   }
 
+  @Test
+  public void testSampleTakesDistinctElements() {
+    List<Integer> list = Arrays.asList(1, 2, 3, 5, 8, 13, 21);
+    for (int k = 0; k <= list.size(); k++) {
+      List<Integer> sample = faker.options().sample(list, k);
+      assertThat(sample).hasSize(k).doesNotHaveDuplicates();
+      assertThat(list).containsAll(sample);
+    }
+    assertThrows(IllegalArgumentException.class, () -> faker.options().sample(list, 8));
+  }
+
+  @Test
+  public void testReservoirSample() {
+    List<Integer> sample = faker.options().sample(IntStream.range(0, 10_000).iterator(), 5);
+    assertThat(sample).hasSize(5).doesNotHaveDuplicates().allMatch(i -> i >= 0 && i < 10_000);
+
+    assertThat(faker.options().sample(Arrays.asList(1, 2).iterator(), 5)).containsExactly(1, 2);
+  }
+
+  @Test
+  public void testShuffleKeepsTheElements() {
+    List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3, 5, 8, 13, 21));
+
+    assertThat(faker.options().shuffle(list)).containsExactlyInAnyOrder(1, 2, 3, 5, 8, 13, 21);
+  }
+
+  @Test
+  public void testPermutation() {
+    assertThat(faker.options().permutation(10))
+        .containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(faker.options().permutation(0)).isEmpty();
+  }
+
   public enum Day {
     MONDAY,
     TUESDAY,
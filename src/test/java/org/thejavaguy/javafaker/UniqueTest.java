@@ -0,0 +1,64 @@
+package org.thejavaguy.javafaker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class UniqueTest extends AbstractFakerTest {
+
+  @Test
+  public void exactScopeNeverRepeatsValues() {
+    final Set<String> values = new HashSet<>();
+    for (int i = 0; i < 5_000; i++) {
+      assertThat(values.add(faker.unique("code").of(() -> faker.number().digits(4)))).isTrue();
+    }
+    assertThat(faker.unique("code").size()).isEqualTo(5_000);
+  }
+
+  @Test
+  public void namedScopesDontShareValues() {
+    assertThat(faker.unique("zip").of(() -> "12345")).isEqualTo("12345");
+    assertThat(faker.unique("street_number").of(() -> "12345")).isEqualTo("12345");
+
+    assertThrows(IllegalStateException.class, () -> faker.unique("zip").of(() -> "12345"));
+  }
+
+  @Test
+  public void approximateScopeNeverRepeatsValues() {
+    final Unique unique = Unique.approximate(5_000, 0.01);
+    final Set<String> values = new HashSet<>();
+    for (int i = 0; i < 5_000; i++) {
+      assertThat(values.add(unique.of(() -> faker.number().digits(6)))).isTrue();
+    }
+  }
+
+  @Test
+  public void exhaustedGeneratorThrowsInsteadOfSpinning() {
+    final Unique unique = Unique.exact();
+    for (int i = 0; i < 10; i++) {
+      unique.of(() -> faker.number().randomDigit());
+    }
+
+    assertThrows(IllegalStateException.class, () -> unique.of(() -> faker.number().randomDigit()));
+  }
+
+  @Test
+  public void clearForgetsTheValues() {
+    final Unique unique = Unique.exact();
+    unique.of(() -> "only");
+    unique.clear();
+
+    assertThat(unique.of(() -> "only")).isEqualTo("only");
+    assertThat(unique.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void approximateRejectsInvalidRates() {
+    assertThrows(IllegalArgumentException.class, () -> Unique.approximate(100, 0));
+    assertThrows(IllegalArgumentException.class, () -> Unique.approximate(100, 1));
+    assertThrows(IllegalArgumentException.class, () -> Unique.approximate(0, 0.01));
+  }
+}
@@ -2,7 +2,9 @@ package org.thejavaguy.javafaker.idnumbers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import org.thejavaguy.javafaker.Faker;
 
 public class SwedishIdNumberTest {
 
@@ -23,4 +25,21 @@ public class SwedishIdNumberTest {
     assertThat(idNumber.validSwedishSsn("811200-9874")).isEqualTo(false);
     assertThat(idNumber.validSwedishSsn("810028-9874")).isEqualTo(false);
   }
+
+  @Test
+  public void leapDays() {
+    SvSEIdNumber idNumber = new SvSEIdNumber();
+    assertThat(idNumber.validSwedishSsn("000229-1235")).isEqualTo(true);
+    assertThat(idNumber.validSwedishSsn("010229-1234")).isEqualTo(false);
+  }
+
+  @Test
+  public void generatedNumbersAreValidOrInvalidAsAskedFor() {
+    SvSEIdNumber idNumber = new SvSEIdNumber();
+    Faker faker = new Faker(new Random(42));
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(idNumber.validSwedishSsn(idNumber.getValidSsn(faker))).isEqualTo(true);
+      assertThat(idNumber.validSwedishSsn(idNumber.getInvalidSsn(faker))).isEqualTo(false);
+    }
+  }
 }
@@ -0,0 +1,35 @@
+package org.thejavaguy.javafaker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ChecksumsTest {
+
+  @Test
+  public void luhnCheckDigit() {
+    assertThat(Checksums.luhnCheckDigit("7992739871".toCharArray(), 0, 10)).isEqualTo(3);
+    assertThat(Checksums.luhnCheckDigit("4111-1111-1111-111".toCharArray(), 0, 18)).isEqualTo(1);
+  }
+
+  @Test
+  public void luhnCheckDigitOnlyReadsTheGivenRange() {
+    assertThat(Checksums.luhnCheckDigit("xx7992739871L".toCharArray(), 2, 10)).isEqualTo(3);
+  }
+
+  @Test
+  public void ibanCheckDigits() {
+    assertThat(Checksums.ibanCheckDigits("GB", "WEST12345698765432".toCharArray(), 0, 18))
+        .isEqualTo(82);
+    assertThat(Checksums.ibanCheckDigits("DE", "370400440532013000".toCharArray(), 0, 18))
+        .isEqualTo(89);
+  }
+
+  @Test
+  public void mod97ReadsLettersRegardlessOfCase() {
+    assertThat(Checksums.mod97(0, "west12".toCharArray(), 0, 6))
+        .isEqualTo(Checksums.mod97(0, "WEST12".toCharArray(), 0, 6));
+    assertThrows(IllegalArgumentException.class, () -> Checksums.mod97(0, '-'));
+  }
+}
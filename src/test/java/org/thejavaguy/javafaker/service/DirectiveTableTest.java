@@ -0,0 +1,83 @@
+package org.thejavaguy.javafaker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.thejavaguy.javafaker.AbstractFakerTest;
+
+public class DirectiveTableTest extends AbstractFakerTest {
+
+  @Test
+  public void bundledDirectivesAreInTheTable() {
+    assumeBundledTable();
+    assertThat(DirectiveTable.id("Name.first_name")).isNotNegative();
+    assertThat(DirectiveTable.id("Address.city_prefix")).isNotNegative();
+    assertThat(DirectiveTable.id("IDNumber.ssn_valid")).isNotNegative();
+  }
+
+  @Test
+  public void otherDirectivesAreNot() {
+    assertThat(DirectiveTable.id("Name.no_such_method")).isEqualTo(-1);
+    assertThat(DirectiveTable.id("name")).isEqualTo(-1);
+  }
+
+  @Test
+  public void invokeCallsTheGetterThenTheProviderMethod() throws Throwable {
+    assumeBundledTable();
+    final Object lastName = DirectiveTable.invoke(DirectiveTable.id("Name.last_name"), faker);
+
+    assertThat(lastName).isInstanceOf(String.class);
+    assertThat((String) lastName).isNotEmpty();
+  }
+
+  @Test
+  public void writeSkipsDirectivesWithoutMatchingMethods() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DirectiveTable.write(
+        Arrays.asList("Name.first_name", "Name.no_such_method", "Nothing.name"), out);
+
+    // magic, version, then the number of entries
+    assertThat(ByteBuffer.wrap(out.toByteArray()).getInt(8)).isEqualTo(1);
+  }
+
+  @Test
+  public void readBindsTheDirectivesThatWereWritten() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DirectiveTable.write(Arrays.asList("Name.first_name", "Address.city_prefix"), out);
+
+    final Map<String, Integer> ids = new HashMap<>();
+    final MethodHandle[] handles =
+        DirectiveTable.read(new ByteArrayInputStream(out.toByteArray()), ids);
+
+    assertThat(handles).hasSize(2);
+    assertThat(ids).containsKeys("Name.first_name", "Address.city_prefix");
+  }
+
+  @Test
+  public void readRejectsTruncatedTables() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DirectiveTable.write(Arrays.asList("Name.first_name"), out);
+    final byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 4);
+
+    assertThatThrownBy(
+            () -> DirectiveTable.read(new ByteArrayInputStream(truncated), new HashMap<>()))
+        .isInstanceOf(IOException.class);
+  }
+
+  /** The table is generated by the build, so it's missing when the tests run from an IDE. */
+  static void assumeBundledTable() {
+    assumeTrue(
+        DirectiveTable.id("Name.first_name") >= 0,
+        DirectiveTable.RESOURCE + " is generated in the process-classes phase");
+  }
+}
@@ -0,0 +1,46 @@
+package org.thejavaguy.javafaker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class ExpressionTemplateTest {
+
+  @Test
+  public void splitsLiteralsAndDirectives() {
+    final ExpressionTemplate template =
+        ExpressionTemplate.compile("#{Name.first_name} and #{Name.last_name}!");
+
+    assertThat(template.directiveCount()).isEqualTo(2);
+    assertThat(template.literal(0)).isEmpty();
+    assertThat(template.directive(0).name()).isEqualTo("Name.first_name");
+    assertThat(template.directive(0).escaped()).isEqualTo("#{Name.first_name}");
+    assertThat(template.literal(1)).isEqualTo(" and ");
+    assertThat(template.directive(1).name()).isEqualTo("Name.last_name");
+    assertThat(template.literal(2)).isEqualTo("!");
+  }
+
+  @Test
+  public void parsesArguments() {
+    final ExpressionTemplate template =
+        ExpressionTemplate.compile("#{Number.number_between '1','10'} #{regexify '[a-z]{2}'}");
+
+    assertThat(template.directive(0).args()).containsExactly("1", "10");
+    assertThat(template.directive(1).name()).isEqualTo("regexify");
+    assertThat(template.directive(1).args()).containsExactly("[a-z]{2}");
+  }
+
+  @Test
+  public void textWithoutDirectivesIsASingleLiteral() {
+    final ExpressionTemplate template = ExpressionTemplate.compile("just text");
+
+    assertThat(template.directiveCount()).isZero();
+    assertThat(template.literal(0)).isEqualTo("just text");
+  }
+
+  @Test
+  public void templatesAreCachedByExpression() {
+    assertThat(ExpressionTemplate.compile("#{hello} #{hello}"))
+        .isSameAs(ExpressionTemplate.compile("#{hello} #{hello}"));
+  }
+}
@@ -0,0 +1,56 @@
+package org.thejavaguy.javafaker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FakeValuesChainTest {
+
+  private FakeValuesChain chain;
+
+  @BeforeEach
+  public void before() {
+    chain =
+        new FakeValuesChain(
+            Arrays.<FakeValuesInterface>asList(
+                new FakeValues(new Locale("test")),
+                new FakeValues(Locale.ENGLISH, "address.yml", "address")));
+  }
+
+  @Test
+  public void fetchesFromTheFirstLocale() {
+    assertThat(chain.fetch("property.dummy")).isEqualTo(Arrays.asList("x", "y", "z"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void fallsBackToLaterLocales() {
+    assertThat((List<String>) chain.fetch("address.city_prefix")).contains("North", "Port");
+  }
+
+  @Test
+  public void remembersResolvedValues() {
+    assertThat(chain.fetch("address.city_prefix")).isSameAs(chain.fetch("address.city_prefix"));
+  }
+
+  @Test
+  public void missingKeysStayMissing() {
+    assertThat(chain.fetch("property.nothing")).isNull();
+    assertThat(chain.fetch("property.nothing")).isNull();
+    assertThat(chain.fetch("nothing.at.all")).isNull();
+  }
+
+  @Test
+  public void keysPastTheCacheLimitStillResolve() {
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(chain.fetch("property.nothing" + i)).isNull();
+    }
+
+    assertThat(chain.fetch("property.dummy")).isEqualTo(Arrays.asList("x", "y", "z"));
+    assertThat(chain.fetch("property.nothing")).isNull();
+  }
+}
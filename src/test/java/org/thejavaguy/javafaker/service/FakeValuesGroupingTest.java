@@ -1,11 +1,19 @@
 package org.thejavaguy.javafaker.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+@SuppressWarnings("unchecked")
 public class FakeValuesGroupingTest {
 
   private FakeValuesGrouping fakeValuesGrouping;
@@ -35,4 +43,40 @@ public class FakeValuesGroupingTest {
     assertThat(fakeValuesGrouping.get("creature")).isEqualTo(catValues.get("creature"));
     assertThat(fakeValuesGrouping.get("creature")).isNotNull();
   }
+
+  @Test
+  public void mergesFilesWithTheSamePathWithoutChangingThem() {
+    FakeValues catValues = new FakeValues(Locale.ENGLISH, "cat.yml", "creature");
+    FakeValues dogValues = new FakeValues(Locale.ENGLISH, "dog.yml", "creature");
+    fakeValuesGrouping.add(catValues);
+    fakeValuesGrouping.add(dogValues);
+
+    final Map<String, Object> creature =
+        (Map<String, Object>) fakeValuesGrouping.get("creature");
+
+    assertThat(creature).containsKeys("cat", "dog");
+    assertThat((Map<String, Object>) catValues.get("creature")).doesNotContainKey("dog");
+    assertThat(fakeValuesGrouping.get("creature")).isSameAs(creature);
+    assertThatThrownBy(() -> creature.put("bird", "x"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void sharedGroupingCanBeReadFromManyThreads() throws Exception {
+    fakeValuesGrouping.add(new FakeValues(Locale.ENGLISH, "cat.yml", "creature"));
+    fakeValuesGrouping.add(new FakeValues(Locale.ENGLISH, "dog.yml", "creature"));
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Map<?, ?>>> results = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        results.add(executor.submit(() -> fakeValuesGrouping.get("creature")));
+      }
+      final Map<?, ?> creature = fakeValuesGrouping.get("creature");
+      for (Future<Map<?, ?>> result : results) {
+        assertThat(result.get()).isEqualTo(creature);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
@@ -74,6 +74,23 @@ public class FakeValuesServiceTest extends AbstractFakerTest {
     assertThat(fakeValuesService.safeFetch("property.dummy", null)).isEqualTo("x");
   }
 
+  @Test
+  public void fetchShouldPickFromWeightedListByWeight() {
+    // the draw lands in the column of "rare", below its share of the column
+    doReturn(0.55).when(randomService).nextDouble();
+    assertThat(fakeValuesService.fetch("property.weighted")).isEqualTo("rare");
+
+    // the draw lands in the column of "rare", above its share, so it goes to its alias
+    doReturn(0.95).when(randomService).nextDouble();
+    assertThat(fakeValuesService.safeFetch("property.weighted", null)).isEqualTo("common");
+  }
+
+  @Test
+  public void fetchObjectShouldReturnTheValuesOfAWeightedList() {
+    assertThat(fakeValuesService.fetchObject("property.weighted"))
+        .isEqualTo(Arrays.asList("common", "rare"));
+  }
+
   @Test
   public void safeFetchShouldReturnSimpleList() {
     assertThat(fakeValuesService.safeFetch("property.simple", null)).isEqualTo("hello");
@@ -155,6 +172,29 @@ public class FakeValuesServiceTest extends AbstractFakerTest {
     verify(person).name();
   }
 
+  @Test
+  public void fakerObjectDirectiveFollowsTheClassOfTheReturnedObject() {
+    assertThat(fakeValuesService.expression("#{Superhero.name}", faker)).isNotEmpty();
+
+    final Superhero person = mock(Superhero.class);
+    doReturn(person).when(faker).superhero();
+    doReturn("Luke Cage").when(person).name();
+
+    assertThat(fakeValuesService.expression("#{Superhero.name}", faker)).isEqualTo("Luke Cage");
+  }
+
+  @Test
+  public void directiveFromTheDirectiveTableCallsTheReturnedObject() {
+    DirectiveTableTest.assumeBundledTable();
+    assertThat(DirectiveTable.id("Superhero.prefix")).isNotNegative();
+
+    final Superhero person = mock(Superhero.class);
+    doReturn(person).when(faker).superhero();
+    doReturn("Captain").when(person).prefix();
+
+    assertThat(fakeValuesService.expression("#{Superhero.prefix}", faker)).isEqualTo("Captain");
+  }
+
   @Test
   public void resolveKeyToPropertyWithAList() {
     // property.resolutionWithList -> #{hello}
@@ -194,6 +234,29 @@ public class FakeValuesServiceTest extends AbstractFakerTest {
     verify(dummy).hello();
   }
 
+  @Test
+  public void nestedExpressionsGoThroughResolveExpression() {
+    final Superhero person = mock(Superhero.class);
+    final DummyService dummy = mock(DummyService.class);
+    doReturn(person).when(faker).superhero();
+    doReturn("#{Superhero.descriptor}").when(dummy).hello();
+    doReturn("up up and away").when(person).descriptor();
+
+    assertThat(fakeValuesService.resolve("property.simpleResolution", dummy, faker))
+        .isEqualTo("up up and away");
+    verify(fakeValuesService).resolveExpression("#{Superhero.descriptor}", dummy, faker);
+  }
+
+  @Test
+  public void servicesForTheSameLocaleShareLoadedValues() {
+    final FakeValuesService other = new FakeValuesService(new Locale("test"), randomService);
+
+    assertThat(other.fetchObject("property.dummy"))
+        .isSameAs(fakeValuesService.fetchObject("property.dummy"));
+    assertThat(new FakeValuesService(Locale.FRANCE, randomService).fetchObject("address.city"))
+        .isSameAs(new FakeValuesService(Locale.FRANCE, randomService).fetchObject("address.city"));
+  }
+
   @Test
   public void testLocaleChain() {
     final List<Locale> chain = fakeValuesService.localeChain(Locale.SIMPLIFIED_CHINESE);
@@ -280,6 +343,16 @@ public class FakeValuesServiceTest extends AbstractFakerTest {
         .matches("[\\w\\d\\!%#$@_\\^&\\*]{5,8}");
   }
 
+  @Test
+  public void sameDirectiveWithDifferentArgumentsUsesItsOwnArguments() {
+    for (int i = 0; i < 3; i++) {
+      assertThat(fakeValuesService.expression("#{Number.number_between '1','2'}", faker))
+          .isEqualTo("1");
+      assertThat(fakeValuesService.expression("#{Number.number_between '7','8'}", faker))
+          .isEqualTo("7");
+    }
+  }
+
   /**
    * Two things are important here: 1) the message in the exception should be USEFUL 2) a {@link
    * RuntimeException} should be thrown.
@@ -317,6 +390,24 @@ public class FakeValuesServiceTest extends AbstractFakerTest {
     verifyNoMoreInteractions(faker);
   }
 
+  @Test
+  public void resolveTheSameKeyOnDifferentObjectsOfTheSameClass() {
+    // given
+    final DummyService first = mock(DummyService.class);
+    final DummyService second = mock(DummyService.class);
+    doReturn("first").when(first).hello();
+    doReturn("second").when(second).hello();
+
+    // when
+    final String fromFirst = fakeValuesService.resolve("property.simpleResolution", first, faker);
+    final String fromSecond = fakeValuesService.resolve("property.simpleResolution", second, faker);
+
+    // then
+    assertThat(fromFirst).isEqualTo("first");
+    assertThat(fromSecond).isEqualTo("second");
+    verifyNoMoreInteractions(faker);
+  }
+
   @Test
   public void FakeValuesServiceWithNullLocaleTest() {
     try {
@@ -0,0 +1,105 @@
+package org.thejavaguy.javafaker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+@SuppressWarnings("unchecked")
+public class FakeValuesSnapshotTest {
+
+  @Test
+  public void roundTripsABundledFile() throws IOException {
+    final Object yaml;
+    try (InputStream stream = getClass().getResourceAsStream("/en/address.yml")) {
+      yaml = new Yaml().load(stream);
+    }
+
+    assertThat(roundTrip(yaml)).isEqualTo(yaml);
+  }
+
+  @Test
+  public void roundTripsScalarsOfEveryType() throws IOException {
+    final Map<Object, Object> values = new LinkedHashMap<>();
+    values.put("string", "hello");
+    values.put("int", 42);
+    values.put("long", 1L << 40);
+    values.put("double", 1.5);
+    values.put("null", null);
+    values.put(true, Arrays.asList(false, 1, "x"));
+    values.put("strings", Arrays.asList("a", "b"));
+
+    assertThat(roundTrip(values)).isEqualTo(values);
+  }
+
+  @Test
+  public void equalStringsAreShared() throws IOException {
+    final Map<String, Object> values = new LinkedHashMap<>();
+    values.put("first", Arrays.asList(new String("same"), "other"));
+    values.put("second", new String("same"));
+
+    final Map<?, ?> read = (Map<?, ?>) roundTrip(values);
+
+    assertThat(((List<?>) read.get("first")).get(0)).isSameAs(read.get("second"));
+  }
+
+  @Test
+  public void snapshotsAreSharedByLocation(@TempDir Path directory) throws IOException {
+    final Path yml = directory.resolve("address.yml");
+    try (InputStream stream = getClass().getResourceAsStream("/en/address.yml")) {
+      Files.copy(stream, yml);
+    }
+    FakeValuesSnapshot.main(new String[] {directory.toString()});
+    final URL location =
+        directory.resolve("address.yml" + FakeValuesSnapshot.SUFFIX).toUri().toURL();
+
+    assertThat(FakeValuesSnapshot.open(location)).isSameAs(FakeValuesSnapshot.open(location));
+    try (InputStream stream = Files.newInputStream(yml)) {
+      assertThat(FakeValuesSnapshot.open(location).root()).isEqualTo(new Yaml().load(stream));
+    }
+  }
+
+  @Test
+  public void snapshotValuesAreReadOnly() throws IOException {
+    final Map<String, Object> values = new LinkedHashMap<>();
+    values.put("strings", Arrays.asList("a", "b"));
+
+    final Map<Object, Object> read = (Map<Object, Object>) roundTrip(values);
+
+    assertThatThrownBy(() -> read.put("other", "c"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> ((List<Object>) read.get("strings")).set(0, "c"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void rejectsValuesItCantRepresent() {
+    assertThatThrownBy(() -> roundTrip(new Date())).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void rejectsStreamsThatAreNotSnapshots() {
+    assertThatThrownBy(() -> FakeValuesSnapshot.read(new ByteArrayInputStream(new byte[8])))
+        .isInstanceOf(IOException.class);
+  }
+
+  private Object roundTrip(Object values) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    FakeValuesSnapshot.write(values, out);
+    return FakeValuesSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+  }
+}
@@ -2,7 +2,13 @@ package org.thejavaguy.javafaker.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +59,21 @@ public class FakeValuesTest {
     FakeValues fakeValues = new FakeValues(new Locale("nothing"));
     assertThat(fakeValues.get(PATH)).isNull();
   }
+
+  @Test
+  public void loadsOnceWhenReadFromManyThreads() throws Exception {
+    final FakeValues shared = new FakeValues(Locale.FRENCH);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Map<?, ?>>> results = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        results.add(executor.submit(() -> shared.get(PATH)));
+      }
+      for (Future<Map<?, ?>> result : results) {
+        assertThat(result.get()).isNotNull().isSameAs(shared.get(PATH));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
@@ -0,0 +1,50 @@
+package org.thejavaguy.javafaker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.CharBuffer;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class PlaceholderMaskTest {
+
+  private final RandomService randomService = new RandomService(new Random(42));
+
+  @Test
+  public void replacesOnlyItsOwnPlaceholders() {
+    assertThat(PlaceholderMask.digits("#?-#?").generate(randomService, false))
+        .matches("\\d\\?-\\d\\?");
+    assertThat(PlaceholderMask.letters("#?-#?").generate(randomService, true))
+        .matches("#[A-Z]-#[A-Z]");
+    assertThat(PlaceholderMask.digitsAndLetters("#?-#?").generate(randomService, false))
+        .matches("\\d[a-z]-\\d[a-z]");
+  }
+
+  @Test
+  public void patternWithoutPlaceholdersIsReturnedAsIs() {
+    final String pattern = "no placeholders";
+
+    assertThat(PlaceholderMask.digitsAndLetters(pattern).generate(randomService, false))
+        .isSameAs(pattern);
+  }
+
+  @Test
+  public void appendsToStringBuildersAndCharBuffers() {
+    final StringBuilder builder = new StringBuilder("tracking: ");
+    PlaceholderMask.digitsAndLetters("??####").appendTo(builder, randomService, true);
+
+    final CharBuffer buffer = CharBuffer.allocate(16);
+    PlaceholderMask.digits("###-####").appendTo(buffer, randomService, false);
+    buffer.flip();
+
+    assertThat(builder.toString()).matches("tracking: [A-Z]{2}\\d{4}");
+    assertThat(buffer.toString()).matches("\\d{3}-\\d{4}");
+  }
+
+  @Test
+  public void masksAreCachedByPattern() {
+    assertThat(PlaceholderMask.digits("###-####")).isSameAs(PlaceholderMask.digits("###-####"));
+    assertThat(PlaceholderMask.digits("###-####"))
+        .isNotSameAs(PlaceholderMask.digitsAndLetters("###-####"));
+  }
+}
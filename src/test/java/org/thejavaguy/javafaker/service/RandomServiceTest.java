@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.thejavaguy.javafaker.AbstractFakerTest;
@@ -25,6 +28,11 @@ public class RandomServiceTest extends AbstractFakerTest {
     Object[][] data =
         new Object[][] {
           {"RandomService(Random)", new RandomService(new Random())},
+          {"RandomService.of(SplittableRandom)", RandomService.of(new SplittableRandom())},
+          {
+            "RandomService.ofBits(LongSupplier)",
+            RandomService.ofBits(new SplittableRandom()::nextLong)
+          },
           {"RandomService()", new RandomService()}
         };
     return Arrays.asList(data);
@@ -78,4 +86,118 @@ public class RandomServiceTest extends AbstractFakerTest {
     initRandomServiceTest(ignoredTitle, service);
     assertThat(randomService.hex()).matches("^[0-9A-F]{8}$");
   }
+
+  @MethodSource("data")
+  @ParameterizedTest(name = "Created via {0}")
+  public void testIntWithinBound(String ignoredTitle, RandomService service) {
+    initRandomServiceTest(ignoredTitle, service);
+    for (int i = 1; i < 100; i++) {
+      assertThat(randomService.nextInt(i)).isGreaterThanOrEqualTo(0).isLessThan(i);
+      assertThat(randomService.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+    }
+  }
+
+  @MethodSource("data")
+  @ParameterizedTest(name = "Created via {0}")
+  public void testFillIntsWithinBound(String ignoredTitle, RandomService service) {
+    initRandomServiceTest(ignoredTitle, service);
+    for (int bound : new int[] {1, 2, 3, 10, 16, 26, 1000, Integer.MAX_VALUE}) {
+      final int[] values = new int[100];
+      randomService.fillInts(values, bound);
+      for (int value : values) {
+        assertThat(value).isGreaterThanOrEqualTo(0).isLessThan(bound);
+      }
+    }
+  }
+
+  @MethodSource("data")
+  @ParameterizedTest(name = "Created via {0}")
+  public void testFillDigitsOnlyFillsTheRange(String ignoredTitle, RandomService service) {
+    initRandomServiceTest(ignoredTitle, service);
+    final char[] chars = "--------------------------".toCharArray();
+    randomService.fillDigits(chars, 2, 22);
+
+    assertThat(new String(chars)).matches("--\\d{22}--");
+  }
+
+  @MethodSource("data")
+  @ParameterizedTest(name = "Created via {0}")
+  public void testNextBits(String ignoredTitle, RandomService service) {
+    initRandomServiceTest(ignoredTitle, service);
+    for (int i = 0; i < 100; i++) {
+      assertThat(randomService.nextBits(5)).isGreaterThanOrEqualTo(0L).isLessThan(32L);
+    }
+    assertThrows(IllegalArgumentException.class, () -> randomService.nextBits(65));
+  }
+
+  @Test
+  public void testNextBytesTakesEightBytesOutOfEachDraw() {
+    final RandomService bytes = RandomService.ofBits(() -> 0x0807060504030201L);
+    final byte[] dst = new byte[10];
+    bytes.nextBytes(dst);
+
+    assertThat(dst).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 1, 2);
+  }
+
+  @Test
+  public void testTenDigitsTakeASingleDraw() {
+    final SplittableRandom random = new SplittableRandom(42);
+    final AtomicInteger draws = new AtomicInteger();
+    final RandomService counting =
+        RandomService.ofBits(
+            () -> {
+              draws.incrementAndGet();
+              return random.nextLong();
+            });
+    final char[] chars = new char[10];
+    counting.fillDigits(chars, 0, chars.length);
+
+    // a draw is only rejected if it lands in the last 2.4% of the range
+    assertThat(draws.get()).isBetween(1, 2);
+  }
+
+  @Test
+  public void testNullRandomUsesTheGeneratorOfTheThread() {
+    final RandomService threadRandom = new RandomService(null);
+
+    assertThat(threadRandom.nextInt(10)).isBetween(0, 9);
+  }
+
+  @Test
+  public void testSameSeededGeneratorGivesTheSameValues() {
+    final RandomService first = RandomService.ofBits(new SplittableRandom(42)::nextLong);
+    final RandomService second = RandomService.ofBits(new SplittableRandom(42)::nextLong);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(first.nextInt(1000)).isEqualTo(second.nextInt(1000));
+    }
+  }
+
+  @Test
+  public void testForkDependsOnlyOnSeedAndIndex() {
+    final RandomService first = RandomService.ofSeed(42L);
+    final RandomService second = RandomService.ofSeed(42L);
+    second.nextLong();
+    second.split();
+
+    assertThat(first.fork(7).nextLong()).isEqualTo(second.fork(7).nextLong());
+    assertThat(first.fork(7).nextLong()).isNotEqualTo(first.fork(8).nextLong());
+    assertThat(first.fork(1).fork(2).nextLong()).isEqualTo(second.fork(1).fork(2).nextLong());
+  }
+
+  @Test
+  public void testForkNeedsASeedOfItsOwn() {
+    final RandomService random = new RandomService(new Random(42));
+
+    assertThrows(IllegalStateException.class, () -> random.fork(7));
+    assertThat(random.nextLong()).isEqualTo(new Random(42).nextLong());
+    assertThat(new RandomService().fork(7).fork(8)).isNotNull();
+  }
+
+  @Test
+  public void testSplitGivesIndependentGenerators() {
+    final RandomService random = RandomService.ofSeed(42L);
+
+    assertThat(random.split().nextLong()).isNotEqualTo(random.split().nextLong());
+  }
 }
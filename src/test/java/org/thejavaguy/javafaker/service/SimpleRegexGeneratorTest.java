@@ -0,0 +1,66 @@
+package org.thejavaguy.javafaker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class SimpleRegexGeneratorTest {
+
+  private final RandomService randomService = new RandomService(new Random(42));
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "[A-HJ-NPR-Z0-9]{17}",
+        "\\d{8}[0-9A-Za-z]{16}",
+        "[0-8]\\d{2}-\\d{2}-\\d{4}",
+        "[A-Z]{4}\\d{4}\\d{2}[0-9A-Za-z]{8}",
+        "4[57]9",
+        "[45]{2}",
+        "\\w{3,6}",
+        "ab?c\\.d",
+        ""
+      })
+  public void generatesMatchingStringsForSimpleRegexes(String regex) {
+    final SimpleRegexGenerator generator = SimpleRegexGenerator.compile(regex);
+
+    assertThat(generator).isNotNull();
+    for (int i = 0; i < 100; i++) {
+      assertThat(generator.generate(randomService)).matches(regex);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "978|979",
+        "([A-Z]){4}",
+        "[^a-z]{3}",
+        "\\s",
+        "a+",
+        "a*",
+        "a{2,}",
+        ".{3}",
+        "[a-z",
+        "[\\d]"
+      })
+  public void leavesOtherRegexesToGenerex(String regex) {
+    assertThat(SimpleRegexGenerator.compile(regex)).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"[A-HJ-NPR-Z0-9]", "\\w"})
+  public void drawsEveryCharacterOfAClass(String regex) {
+    final SimpleRegexGenerator generator = SimpleRegexGenerator.compile(regex);
+    final Set<String> seen = new HashSet<>();
+    for (int i = 0; i < 10_000; i++) {
+      seen.add(generator.generate(randomService));
+    }
+
+    assertThat(seen).hasSize(regex.equals("\\w") ? 63 : 33);
+  }
+}
@@ -0,0 +1,67 @@
+package org.thejavaguy.javafaker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class WeightedListTest {
+
+  private final RandomService randomService = new RandomService(new Random(42));
+
+  @Test
+  public void picksValuesInProportionToTheirWeights() {
+    final WeightedList list =
+        (WeightedList) WeightedList.of(Arrays.asList(entry("a", 6), entry("b", 3), entry("c", 1)));
+    final Map<Object, Integer> counts = new LinkedHashMap<>();
+    for (int i = 0; i < 100_000; i++) {
+      counts.merge(list.pick(randomService), 1, Integer::sum);
+    }
+
+    assertThat(list).containsExactly("a", "b", "c");
+    assertThat(counts.get("a")).isBetween(59_000, 61_000);
+    assertThat(counts.get("b")).isBetween(29_000, 31_000);
+    assertThat(counts.get("c")).isBetween(9_500, 10_500);
+  }
+
+  @Test
+  public void neverPicksValuesWithoutWeight() {
+    final WeightedList list =
+        (WeightedList) WeightedList.of(Arrays.asList(entry("never", 0), entry("always", 2.5)));
+    for (int i = 0; i < 1000; i++) {
+      assertThat(list.pick(randomService)).isEqualTo("always");
+    }
+  }
+
+  @Test
+  public void otherValuesAreLeftAsTheyAre() {
+    final List<String> plain = Arrays.asList("x", "y");
+    final List<Map<String, Object>> notWeighted =
+        Collections.singletonList(Collections.singletonMap("value", "x"));
+
+    assertThat(WeightedList.of(plain)).isSameAs(plain);
+    assertThat(WeightedList.of(notWeighted)).isSameAs(notWeighted);
+    assertThat(WeightedList.of("x")).isEqualTo("x");
+    assertThat(WeightedList.of(null)).isNull();
+  }
+
+  @Test
+  public void rejectsNegativeWeights() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> WeightedList.of(Arrays.asList(entry("a", -1), entry("b", 2))));
+  }
+
+  private static Map<String, Object> entry(String value, double weight) {
+    final Map<String, Object> entry = new LinkedHashMap<>();
+    entry.put("value", value);
+    entry.put("weight", weight);
+    return entry;
+  }
+}